@@ -0,0 +1,104 @@
+package yunrry.flik.batch.migration.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주소 -> 시군구 코드: SigunguCodeResolver vs 기존 replace 체인 + 전체 enum 선형 탐색
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SigunguCodeResolverBenchmark {
+
+    // fetched_* addr1 표기 분포를 흉내낸 주소 (정식/약칭 시도명, 시도명 없음, 뒤쪽 시도 포함)
+    private static final String[][] ADDRESSES = {
+            {"서울특별시 중구 세종대로 110", "1"},
+            {"서울 종로구 사직로 161", "1"},
+            {"부산광역시 해운대구 해운대해변로 264", "6"},
+            {"대구광역시 달서구 두류공원로 36", "4"},
+            {"인천광역시 남동구 구월동 1138", "2"},
+            {"광주광역시 동구 금남로 245", "5"},
+            {"대전광역시 유성구 대학로 99", "3"},
+            {"울산광역시 남구 삼산로 35", "7"},
+            {"세종특별자치시 한누리대로 2130", "8"},
+            {"경기도 광주시 퇴촌면 태극길", "31"},
+            {"경기도 수원시 팔달구 정조로 825", "31"},
+            {"강원특별자치도 고성군 토성면 잼버리로 244", "32"},
+            {"충청북도 청주시 상당구 상당로 155", "33"},
+            {"충청남도 공주시 웅진로 280", "34"},
+            {"경상북도 경주시 보문로 424-33", "35"},
+            {"경상남도 고성군 고성읍 송학고분로", "36"},
+            {"전북특별자치도 전주시 완산구 기린대로 99", "37"},
+            {"전라남도 여수시 오동도로 222", "38"},
+            {"제주특별자치도 서귀포시 중문관광로 72", "39"},
+            {"제주시 애월읍 애월해안로 272", "39"},
+            {"중구 태종로 1", "6"},
+    };
+
+    private static final int OPERATIONS = ADDRESSES.length;
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void resolver(Blackhole blackhole) {
+        for (String[] address : ADDRESSES) {
+            blackhole.consume(SigunguCodeResolver.resolve(address[0], address[1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void legacyReplaceChain(Blackhole blackhole) {
+        for (String[] address : ADDRESSES) {
+            blackhole.consume(legacyParseAddressToCode(address[0]));
+        }
+    }
+
+    // 기존 SigunguCode.parseAddressToCode (시도명 replace 체인 후 enum 순서대로 contains)
+    private static String legacyParseAddressToCode(String addr1) {
+        if (addr1 == null || addr1.isEmpty()) {
+            return "110";
+        }
+
+        String addrClean = addr1.replace("서울특별시", "").replace("서울", "")
+                .replace("부산광역시", "").replace("부산", "")
+                .replace("대구광역시", "").replace("대구", "")
+                .replace("인천광역시", "").replace("인천", "")
+                .replace("광주광역시", "").replace("광주", "")
+                .replace("대전광역시", "").replace("대전", "")
+                .replace("울산광역시", "").replace("울산", "")
+                .replace("세종특별자치시", "").replace("세종", "")
+                .replace("경기도", "").replace("강원도", "")
+                .replace("충청북도", "").replace("충북", "")
+                .replace("충청남도", "").replace("충남", "")
+                .replace("전라북도", "").replace("전북", "")
+                .replace("전라남도", "").replace("전남", "")
+                .replace("경상북도", "").replace("경북", "")
+                .replace("경상남도", "").replace("경남", "")
+                .replace("제주특별자치도", "").replace("제주", "")
+                .trim();
+
+        for (SigunguCode sigungu : SigunguCode.values()) {
+            if (addrClean.contains(sigungu.getName())) {
+                return sigungu.getCode();
+            }
+        }
+
+        return "110";
+    }
+}
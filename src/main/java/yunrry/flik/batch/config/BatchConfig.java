@@ -4,17 +4,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.job.GooglePlacesEnrichmentJob;
-import yunrry.flik.batch.job.processor.InfoDetailProcessor;
 import yunrry.flik.batch.job.processor.LabelDetailProcessor;
 import yunrry.flik.batch.job.processor.RestaurantDataProcessor;
 import yunrry.flik.batch.job.processor.TourismDataProcessor;
@@ -22,16 +26,19 @@ import yunrry.flik.batch.job.reader.DetailItemReader;
 import yunrry.flik.batch.job.reader.LabelDetailItemReader;
 import yunrry.flik.batch.job.reader.RestaurantApiItemReader;
 import yunrry.flik.batch.job.reader.TourismApiItemReader;
-import yunrry.flik.batch.job.writer.InfoDetailWriter;
 import yunrry.flik.batch.job.writer.LabelDetailWriter;
 import yunrry.flik.batch.job.writer.RestaurantDataWriter;
 import yunrry.flik.batch.job.writer.TourismDataWriter;
 import yunrry.flik.batch.listener.BatchJobListener;
+import yunrry.flik.batch.listener.MigrationReportListener;
 import yunrry.flik.batch.migration.service.*;
 import yunrry.flik.batch.service.ApiService;
-import yunrry.flik.batch.service.RateLimitService;
+import yunrry.flik.batch.service.TourApiKeyPool;
 import yunrry.flik.batch.service.RestaurantApiService;
 
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
 @Configuration
 @RequiredArgsConstructor
 public class BatchConfig {
@@ -41,8 +48,6 @@ public class BatchConfig {
     private final LabelDetailWriter labelDetailWriter;
 
     private final DetailItemReader detailItemReader;
-    private final InfoDetailProcessor infoDetailProcessor;
-    private final InfoDetailWriter infoDetailWriter;
 
 
     private final TourismApiItemReader tourismApiItemReader;
@@ -50,6 +55,7 @@ public class BatchConfig {
     private final TourismDataWriter tourismDataWriter;
 
     private final BatchJobListener batchJobListener;
+    private final MigrationReportListener migrationReportListener;
 
     private final GooglePlacesEnrichmentJob googlePlacesEnrichmentJob;
 
@@ -59,7 +65,7 @@ public class BatchConfig {
 
     private final ApiService apiService;
     private final RestaurantApiService restaurantApiService;
-    private final RateLimitService rateLimitService;
+    private final TourApiKeyPool tourApiKeyPool;
 
     // 마이그레이션 서비스들
     private final AccommodationMigrationService accommodationMigrationService;
@@ -70,6 +76,9 @@ public class BatchConfig {
     private final SportsRecreationMigrationService sportsRecreationMigrationService;
     private final TouristAttractionsMigrationService touristAttractionsMigrationService;
 
+    @Value("${migration.parallelism:4}")
+    private int migrationParallelism;
+
     @Bean
     public Job tourismDataJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new JobBuilder("tourismDataJob", jobRepository)
@@ -100,16 +109,6 @@ public class BatchConfig {
                 .build();
     }
 
-    @Bean
-    public Step detailIntroStep2(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        return new StepBuilder("detailIntroStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(detailItemReader)
-                .processor(infoDetailProcessor)
-                .writer(infoDetailWriter)
-                .build();
-    }
-
 
 
 
@@ -117,56 +116,56 @@ public class BatchConfig {
     @Bean
     public Tasklet accommodationMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = accommodationMigrationService.migrateAccommodations();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(accommodationMigrationService.migrateAccommodations());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet culturalMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = culturalFacilitiesMigrationService.migrateCulturalFacilities();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(culturalFacilitiesMigrationService.migrateCulturalFacilities());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet festivalMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = festivalEventsMigrationService.migrateFestivalEvents();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(festivalEventsMigrationService.migrateFestivalEvents());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet restaurantMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = restaurantMigrationService.migrateRestaurants();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(restaurantMigrationService.migrateRestaurants());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet shoppingMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = shoppingMigrationService.migrateShopping();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(shoppingMigrationService.migrateShopping());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet sportsMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = sportsRecreationMigrationService.migrateSportsRecreation();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(sportsRecreationMigrationService.migrateSportsRecreation());
+            return RepeatStatus.FINISHED;
         };
     }
 
     @Bean
     public Tasklet touristMigrationTasklet() {
         return (contribution, chunkContext) -> {
-            boolean success = touristAttractionsMigrationService.migrateTouristAttractions();
-            return success ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+            contribution.incrementWriteCount(touristAttractionsMigrationService.migrateTouristAttractions());
+            return RepeatStatus.FINISHED;
         };
     }
 
@@ -277,29 +276,83 @@ public class BatchConfig {
                 .build();
     }
 
-    // 전체 마이그레이션 Job
+    // 전체 마이그레이션 Job (관광타입별 스텝을 migrationTaskExecutor 에서 병렬 실행, 각 스텝은 서로 다른 fetched_* 테이블만 읽음)
     @Bean
     public Job allMigrationJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        Flow migrationSplit = parallelMigrationFlow("allMigrationSplit",
+                touristMigrationStep(jobRepository, transactionManager),
+                accommodationMigrationStep(jobRepository, transactionManager),
+                culturalMigrationStep(jobRepository, transactionManager),
+                festivalMigrationStep(jobRepository, transactionManager),
+                restaurantMigrationStep(jobRepository, transactionManager),
+                shoppingMigrationStep(jobRepository, transactionManager),
+                sportsMigrationStep(jobRepository, transactionManager));
+
         return new JobBuilder("allMigrationJob", jobRepository)
                 .listener(batchJobListener)
-                .start(touristMigrationStep(jobRepository, transactionManager))
-                .next(accommodationMigrationStep(jobRepository, transactionManager))
-                .next(culturalMigrationStep(jobRepository, transactionManager))
-                .next(festivalMigrationStep(jobRepository, transactionManager))
-                .next(restaurantMigrationStep(jobRepository, transactionManager))
-                .next(shoppingMigrationStep(jobRepository, transactionManager))
-                .next(sportsMigrationStep(jobRepository, transactionManager))
+                .listener(migrationReportListener)
+                .start(migrationSplit)
+                .end()
                 .build();
     }
 
+    // 증분 마이그레이션 Job (테이블별 updated_at 기준 시각 이후 변경분만 spots 에 upsert)
+    @Bean
+    public Job incrementalMigrationJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        Flow migrationSplit = parallelMigrationFlow("incrementalMigrationSplit",
+                migrationStep("touristIncrementalMigrationStep",
+                        touristAttractionsMigrationService::migrateTouristAttractionsIncremental, jobRepository, transactionManager),
+                migrationStep("accommodationIncrementalMigrationStep",
+                        accommodationMigrationService::migrateAccommodationsIncremental, jobRepository, transactionManager),
+                migrationStep("culturalIncrementalMigrationStep",
+                        culturalFacilitiesMigrationService::migrateCulturalFacilitiesIncremental, jobRepository, transactionManager),
+                migrationStep("festivalIncrementalMigrationStep",
+                        festivalEventsMigrationService::migrateFestivalEventsIncremental, jobRepository, transactionManager),
+                migrationStep("restaurantIncrementalMigrationStep",
+                        restaurantMigrationService::migrateRestaurantsIncremental, jobRepository, transactionManager),
+                migrationStep("shoppingIncrementalMigrationStep",
+                        shoppingMigrationService::migrateShoppingIncremental, jobRepository, transactionManager),
+                migrationStep("sportsIncrementalMigrationStep",
+                        sportsRecreationMigrationService::migrateSportsRecreationIncremental, jobRepository, transactionManager));
+
+        return new JobBuilder("incrementalMigrationJob", jobRepository)
+                .listener(batchJobListener)
+                .listener(migrationReportListener)
+                .start(migrationSplit)
+                .end()
+                .build();
+    }
 
+    private Flow parallelMigrationFlow(String name, Step... steps) {
+        return new FlowBuilder<SimpleFlow>(name)
+                .split(migrationTaskExecutor())
+                .add(Stream.of(steps)
+                        .map(step -> new FlowBuilder<SimpleFlow>(step.getName() + "Flow").start(step).build())
+                        .toArray(Flow[]::new))
+                .build();
+    }
 
+    // 마이그레이션 건수를 스텝 writeCount 로 기록하는 단일 Tasklet 스텝
+    private Step migrationStep(String name, LongSupplier migration,
+                               JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(name, jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(migration.getAsLong());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
 
-
-
-
-
-
+    // 동시에 실행하는 마이그레이션 스텝 수 (1 이면 순차 실행과 같음)
+    @Bean
+    public ThreadPoolTaskExecutor migrationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(migrationParallelism);
+        executor.setMaxPoolSize(migrationParallelism);
+        executor.setThreadNamePrefix("migration-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
 
     @Bean
     public Job detailIntroOnlyJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
@@ -309,14 +362,6 @@ public class BatchConfig {
                 .build();
     }
 
-    @Bean
-    public Job detailIntroOnlyJob2(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        return new JobBuilder("detailIntroOnlyJob2", jobRepository)
-                .listener(batchJobListener)
-                .start(detailIntroStep2(jobRepository, transactionManager))
-                .build();
-    }
-
     @Bean
     public Step labelDetailStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder("labelDetailStep", jobRepository)
@@ -335,28 +380,11 @@ public class BatchConfig {
                 .build();
     }
 
-    @Bean
-    public Step labelDetailStep2(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        return new StepBuilder("labelDetailStep2", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(labelDetailItemReader)
-                .processor(labelDetailProcessor.labelDetailProcessor2())
-                .writer(labelDetailWriter)
-                .build();
-    }
-
-    @Bean
-    public Job labelDetailJob2(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        return new JobBuilder("labelDetailJob2", jobRepository)
-                .listener(batchJobListener)
-                .start(labelDetailStep2(jobRepository, transactionManager))
-                .build();
-    }
-
 
     @Bean
     public Job areaBasedTourismJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new JobBuilder("areaBasedTourismJob", jobRepository)
+                .listener(batchJobListener)
                 .start(createStepForArea("39", jobRepository, transactionManager)) // 제주
                 .next(createStepForArea("6", jobRepository, transactionManager))  // 부산
                 .build();
@@ -364,7 +392,7 @@ public class BatchConfig {
 
     private Step createStepForArea(String areaCode, JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         // Step 실행 전에 reader에 지역 코드 설정
-        TourismApiItemReader reader = new TourismApiItemReader(apiService, rateLimitService);
+        TourismApiItemReader reader = new TourismApiItemReader(apiService, tourApiKeyPool);
         reader.setAreaCode(areaCode);
 
         return new StepBuilder("tourismStep_" + areaCode, jobRepository)
@@ -377,7 +405,7 @@ public class BatchConfig {
 
     private Step createStepForRestaurant(String areaCode, JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         // Step 실행 전에 reader에 지역 코드 설정
-        RestaurantApiItemReader reader = new RestaurantApiItemReader(restaurantApiService, rateLimitService);
+        RestaurantApiItemReader reader = new RestaurantApiItemReader(restaurantApiService, tourApiKeyPool);
         reader.setAreaCode(areaCode);
 
         return new StepBuilder("restaurantStep_" + areaCode, jobRepository)
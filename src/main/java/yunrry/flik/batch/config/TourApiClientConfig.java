@@ -0,0 +1,99 @@
+package yunrry.flik.batch.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * KorService2(TourAPI) 공용 HTTP 클라이언트
+ * - 호스트당 커넥션 풀 + keep-alive 재사용 (페이지/상세 호출마다 TLS 핸드셰이크 방지)
+ * - gzip 협상, 연결/응답 타임아웃, 응답 크기 제한
+ * - 풀/요청 메트릭은 Micrometer 글로벌 레지스트리(-> /actuator/prometheus)로 노출
+ * - 실제 나가는 요청마다 키 선택 + 한도 차감 (TourApiQuotaFilter, 캐시 히트는 차감 없음)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TourApiClientConfig {
+
+    private final TourApiQuotaFilter tourApiQuotaFilter;
+
+    @Value("${tourism-api.base-url}")
+    private String baseUrl;
+
+    @Value("${tourism-api.timeout:30000}")
+    private int responseTimeoutMillis;
+
+    @Value("${tourism-api.http.connect-timeout:5000}")
+    private int connectTimeoutMillis;
+
+    // Reactor Netty 풀은 원격 호스트별로 분리되므로 사실상 호스트당 상한
+    @Value("${tourism-api.http.max-connections:32}")
+    private int maxConnections;
+
+    @Value("${tourism-api.http.pending-acquire-max-count:512}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${tourism-api.http.pending-acquire-timeout:60000}")
+    private int pendingAcquireTimeoutMillis;
+
+    @Value("${tourism-api.http.max-idle-time:30000}")
+    private int maxIdleTimeMillis;
+
+    @Value("${tourism-api.http.max-life-time:300000}")
+    private int maxLifeTimeMillis;
+
+    @Value("${tourism-api.http.max-in-memory-size:16777216}")
+    private int maxInMemorySize;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tourApiConnectionProvider() {
+        return ConnectionProvider.builder("tour-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient tourApiWebClient(WebClient.Builder webClientBuilder, ConnectionProvider tourApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(tourApiConnectionProvider)
+                .compress(true)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                // uri 태그는 경로만 사용 (쿼리스트링 제외) -> 엔드포인트 수만큼의 카디널리티
+                .metrics(true, Function.identity());
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
+
+        log.info("TourAPI WebClient initialized - baseUrl: {}, maxConnections: {}, responseTimeout: {}ms",
+                baseUrl, maxConnections, responseTimeoutMillis);
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .defaultHeader("accept", "*/*")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .filter(tourApiQuotaFilter)
+                .build();
+    }
+}
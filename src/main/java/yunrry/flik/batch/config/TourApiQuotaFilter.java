@@ -0,0 +1,169 @@
+package yunrry.flik.batch.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import yunrry.flik.batch.exception.ApiLimitExceededException;
+import yunrry.flik.batch.mapper.AreaBasedListParser;
+import yunrry.flik.batch.service.RateLimitService;
+import yunrry.flik.batch.service.TourApiKeyPool;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * TourAPI 요청 필터
+ * - 키 풀에서 잔여 한도가 가장 많은 키로 serviceKey 를 교체하고 토큰 차감
+ * - 응답 앞부분에 한도 초과 메시지가 있으면 해당 키를 로테이션에서 제외
+ * - 한도 초과는 게이트웨이의 XML 에러 봉투로 오므로, JSON 이 아닌 (작은) 응답은 전부 읽어 확인하고 다음 키로 1회 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiQuotaFilter implements ExchangeFilterFunction {
+
+    private static final String SERVICE_KEY_PARAM = "serviceKey=";
+    // 한도 초과 응답은 짧으므로 본문 앞부분만 검사
+    private static final int SCAN_LIMIT = 4096;
+
+    private final RateLimitService rateLimitService;
+    private final TourApiKeyPool keyPool;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String requestedKey = extractServiceKey(request.url());
+        String path = request.url().getPath();
+        String endpoint = path.substring(path.lastIndexOf('/') + 1);
+
+        return exchange(request, next, requestedKey, endpoint, true);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, String requestedKey,
+                                          String endpoint, boolean retryOnLimit) {
+        // 키 선택/임대 시 Redis 호출이 발생할 수 있으므로 이벤트 루프에서 실행하지 않음
+        return Mono.fromCallable(() -> acquireKey(endpoint, requestedKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(key -> next.exchange(withServiceKey(request, requestedKey, key))
+                        .flatMap(response -> {
+                            if (isJson(response)) {
+                                // 정상 응답은 스트리밍 그대로 전달 (앞부분만 검사)
+                                return Mono.just(watchLimitError(response, key, endpoint));
+                            }
+                            return checkLimitError(response, key, endpoint, retryOnLimit
+                                    ? () -> exchange(request, next, requestedKey, endpoint, false)
+                                    : null);
+                        }))
+                .switchIfEmpty(Mono.error(() -> new ApiLimitExceededException("API 호출 한도 초과 (" + endpoint + ")")));
+    }
+
+    private String acquireKey(String endpoint, String requestedKey) {
+        for (String key : keyPool.candidates(endpoint, requestedKey)) {
+            if (rateLimitService.tryAcquire(key, endpoint)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private ClientRequest withServiceKey(ClientRequest request, String requestedKey, String key) {
+        if (key.equals(requestedKey)) {
+            return request;
+        }
+        URI uri = request.url();
+        StringBuilder query = new StringBuilder();
+        for (String param : uri.getRawQuery().split("&")) {
+            if (!query.isEmpty()) {
+                query.append('&');
+            }
+            query.append(param.startsWith(SERVICE_KEY_PARAM)
+                    ? SERVICE_KEY_PARAM + UriUtils.encodeQueryParam(key, StandardCharsets.UTF_8)
+                    : param);
+        }
+        String url = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath() + "?" + query;
+        return ClientRequest.from(request).url(URI.create(url)).build();
+    }
+
+    // 본문을 모두 읽어 한도 초과면 키를 제외하고 다음 키로 재시도, 아니면 읽은 본문으로 응답 재구성
+    private Mono<ClientResponse> checkLimitError(ClientResponse response, String key, String endpoint,
+                                                 Supplier<Mono<ClientResponse>> retry) {
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> {
+                    if (body.contains(AreaBasedListParser.LIMIT_EXCEEDED_MARKER)) {
+                        keyPool.markExhausted(key, endpoint);
+                        if (retry != null) {
+                            log.info("Service key limit exceeded, retrying with next key - endpoint: {}", endpoint);
+                            return retry.get();
+                        }
+                    }
+                    return Mono.just(ClientResponse.create(response.statusCode(), response.strategies())
+                            .headers(headers -> headers.addAll(response.headers().asHttpHeaders()))
+                            .request(response.request())
+                            .body(body)
+                            .build());
+                });
+    }
+
+    private boolean isJson(ClientResponse response) {
+        return response.headers().contentType()
+                .map(type -> type.isCompatibleWith(MediaType.APPLICATION_JSON) || type.getSubtype().endsWith("+json"))
+                .orElse(false);
+    }
+
+    private ClientResponse watchLimitError(ClientResponse response, String key, String endpoint) {
+        LimitMarkerScanner scanner = new LimitMarkerScanner();
+        return response.mutate()
+                .body(body -> body.doOnNext(buffer -> {
+                    if (scanner.scan(buffer)) {
+                        keyPool.markExhausted(key, endpoint);
+                    }
+                }))
+                .build();
+    }
+
+    private String extractServiceKey(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String param : query.split("&")) {
+            if (param.startsWith(SERVICE_KEY_PARAM)) {
+                return UriUtils.decode(param.substring(SERVICE_KEY_PARAM.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    // 버퍼 경계에 걸친 메시지도 찾도록 앞부분을 모아서 검사 (버퍼 읽기 위치는 변경하지 않음)
+    private static final class LimitMarkerScanner {
+        private final StringBuilder head = new StringBuilder();
+        private boolean done;
+
+        boolean scan(DataBuffer buffer) {
+            if (done) {
+                return false;
+            }
+            int start = buffer.readPosition();
+            int end = Math.min(buffer.writePosition(), start + SCAN_LIMIT - head.length());
+            for (int i = start; i < end; i++) {
+                head.append((char) (buffer.getByte(i) & 0xFF));
+            }
+            if (head.indexOf(AreaBasedListParser.LIMIT_EXCEEDED_MARKER) >= 0) {
+                done = true;
+                return true;
+            }
+            done = head.length() >= SCAN_LIMIT;
+            return false;
+        }
+    }
+}
@@ -2,39 +2,91 @@ package yunrry.flik.batch.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import yunrry.flik.batch.domain.TourismRawData;
+import yunrry.flik.batch.job.partitioner.TourismCollectionPartitioner;
 import yunrry.flik.batch.job.processor.DynamicTourismProcessor;
 import yunrry.flik.batch.job.processor.TouristSpotProcessor;
 import yunrry.flik.batch.job.reader.DynamicTourismReader;
 import yunrry.flik.batch.job.reader.TouristSpotItemReader;
 import yunrry.flik.batch.job.writer.DynamicTourismWriter;
 import yunrry.flik.batch.job.writer.TouristSpotWriter;
+import yunrry.flik.batch.listener.BatchJobListener;
+import yunrry.flik.batch.service.RateLimitService;
+import yunrry.flik.batch.service.TourApiKeyPool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class TourismJobConfiguration {
 
+    // 리더/프로세서/라이터는 @StepScope (파티션마다 별도 인스턴스)
     private final DynamicTourismReader dynamicTourismReader;
     private final DynamicTourismProcessor dynamicTourismProcessor;
     private final DynamicTourismWriter dynamicTourismWriter;
 
+    private final TourismCollectionPartitioner tourismCollectionPartitioner;
+    private final TourApiKeyPool tourApiKeyPool;
+    private final BatchJobListener batchJobListener;
+
+    // 매니저 스텝 실행 ID -> 동시 실행 파티션 허용 수
+    private final Map<Long, Semaphore> sweepPermits = new ConcurrentHashMap<>();
+
+    // 동시에 실행하는 파티션 수 상한 (남은 호출 한도에 따라 더 줄어듦)
+    @Value("${tourism-api.collection.partition.max-concurrency:4}")
+    private int maxConcurrency;
+
 
     @Bean
     public Job tourismDataCollectionJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new JobBuilder("tourismDataCollectionJob", jobRepository)
+                .listener(batchJobListener)
                 .start(tourismCollectionStep(jobRepository, transactionManager))
                 .build();
     }
 
+    /**
+     * 전체 지역 × 관광타입 수집 (단일 JobExecution)
+     * 파티션마다 tourismCollectionStep 워커 스텝 실행, 실패한 파티션만 재시작 가능
+     */
+    @Bean
+    public Job tourismDataCollectionPartitionedJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder("tourismDataCollectionPartitionedJob", jobRepository)
+                .listener(batchJobListener)
+                .start(tourismCollectionPartitionedStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Bean
+    public Step tourismCollectionPartitionedStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("tourismCollectionPartitionedStep", jobRepository)
+                .partitioner("tourismCollectionStep", tourismCollectionPartitioner)
+                .step(tourismCollectionStep(jobRepository, transactionManager))
+                .taskExecutor(quotaLimitedExecutor(tourismCollectionTaskExecutor()))
+                .gridSize(maxConcurrency)
+                .listener(partitionSweepListener())
+                .build();
+    }
+
     @Bean
     public Step tourismCollectionStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder("tourismCollectionStep", jobRepository)
@@ -44,4 +96,64 @@ public class TourismJobConfiguration {
                 .writer(dynamicTourismWriter)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ThreadPoolTaskExecutor tourismCollectionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setThreadNamePrefix("tourism-collect-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 매니저 스텝 실행마다 동시 실행 파티션 수를 세마포어로 제한
+     * - 파티션마다 최소 1회의 목록 조회가 필요하므로, 남은 areaBasedList2 한도보다 많은 파티션을 동시에 돌리지 않음
+     * - 공유 스레드 풀 크기는 바꾸지 않음 (다른 실행에 영향 없음)
+     */
+    private TaskExecutor quotaLimitedExecutor(ThreadPoolTaskExecutor pool) {
+        return task -> {
+            StepContext context = StepSynchronizationManager.getContext();
+            Semaphore permits = context != null ? sweepPermits.get(context.getStepExecution().getId()) : null;
+            if (permits == null) {
+                pool.execute(task);
+                return;
+            }
+            // 파티션 제출(매니저 스레드)을 빈 자리가 생길 때까지 대기
+            permits.acquireUninterruptibly();
+            try {
+                pool.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        };
+    }
+
+    // 실행별 동시성 결정 (임대 토큰 반환은 잡 종료 시 BatchJobListener 에서 한 번만)
+    private StepExecutionListener partitionSweepListener() {
+        return new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                int remaining = tourApiKeyPool.getRemainingCount(RateLimitService.AREA_BASED_LIST);
+                int concurrency = Math.max(1, Math.min(maxConcurrency, remaining));
+                sweepPermits.put(stepExecution.getId(), new Semaphore(concurrency));
+                log.info("Tourism collection partitions - concurrency: {} (max: {}, remaining quota: {})",
+                        concurrency, maxConcurrency, remaining);
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                sweepPermits.remove(stepExecution.getId());
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+}
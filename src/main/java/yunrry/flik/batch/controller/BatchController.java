@@ -14,6 +14,7 @@ import yunrry.flik.batch.job.processor.TourismDataProcessor;
 import yunrry.flik.batch.job.reader.DetailItemReader;
 import yunrry.flik.batch.job.reader.LabelDetailItemReader;
 import yunrry.flik.batch.job.reader.TourismApiItemReader;
+import yunrry.flik.batch.service.LabelDictionary;
 import yunrry.flik.batch.service.RateLimitService;
 
 import java.time.LocalDateTime;
@@ -31,13 +32,12 @@ public class BatchController {
     private final JobRepository jobRepository;
     private final RateLimitService rateLimitService;
     private final Job detailIntroOnlyJob;
-    private final Job detailIntroOnlyJob2;
     private final Job labelDetailJob;
-    private final Job labelDetailJob2;
     private final DetailItemReader detailItemReader;
     private final TourismApiItemReader tourismApiItemReader;
     private final TourismDataProcessor tourismDataProcessor;
     private final LabelDetailProcessor labelDetailProcessor;
+    private final LabelDictionary labelDictionary;
 
     @GetMapping("/test")
     public String test() {
@@ -132,12 +132,20 @@ public class BatchController {
 
         response.put("currentCount", rateLimitService.getCurrentCount());
         response.put("remainingCount", rateLimitService.getRemainingCount());
-        response.put("dailyLimit", 1000);
+        response.put("dailyLimit", rateLimitService.getDailyLimit());
         response.put("canMakeRequest", rateLimitService.canMakeRequest());
 
         return ResponseEntity.ok(response);
     }
 
+    // label 테이블 변경 후 메모리 인덱스 즉시 갱신
+    @PostMapping("/labels/refresh")
+    public ResponseEntity<Map<String, Object>> refreshLabelDictionary() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("labels", labelDictionary.refresh());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/tourism/stop/{jobExecutionId}")
     public ResponseEntity<Map<String, Object>> stopBatch(@PathVariable Long jobExecutionId) {
         Map<String, Object> response = new HashMap<>();
@@ -201,48 +209,6 @@ public class BatchController {
         }
     }
 
-    @PostMapping("/tourism/detail-intro2/run")
-    public ResponseEntity<Map<String, Object>> runDetailIntroOnly2() {
-        Map<String, Object> response = new HashMap<>();
-
-        try {
-            // API 제한 확인
-//            if (!rateLimitService.canMakeRequest()) {
-//                response.put("success", false);
-//                response.put("message", "API rate limit exceeded");
-//                response.put("remainingCount", rateLimitService.getRemainingCount());
-//                return ResponseEntity.badRequest().body(response);
-//            }
-
-            // *** Reader 상태 초기화 ***
-            detailItemReader.reset();
-
-            // JobParameters 생성
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("executionTime", LocalDateTime.now().toString())
-                    .addString("triggerType", "MANUAL_DETAIL_INTRO")
-                    .toJobParameters();
-
-            // 배치 Job 실행
-            JobExecution jobExecution = jobLauncher.run(detailIntroOnlyJob2, jobParameters);
-
-            response.put("success", true);
-            response.put("jobExecutionId", jobExecution.getId());
-            response.put("status", jobExecution.getStatus().toString());
-            response.put("startTime", jobExecution.getStartTime());
-            response.put("apiCallsRemaining", rateLimitService.getRemainingCount());
-
-            log.info("Detail intro batch job started manually - Execution ID: {}", jobExecution.getId());
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("Failed to start detail intro batch job", e);
-            response.put("success", false);
-            response.put("message", "Failed to start detail intro job: " + e.getMessage());
-            return ResponseEntity.internalServerError().body(response);
-        }
-    }
-
 
     @GetMapping("/tourism/detail-intro/status/{jobExecutionId}")
     public ResponseEntity<Map<String, Object>> getDetailIntroStatus(@PathVariable Long jobExecutionId) {
@@ -313,34 +279,6 @@ public class BatchController {
         }
     }
 
-    @PostMapping("/label-detail2")
-    public ResponseEntity<Map<String, Object>> runLabelDetailJob2() {
-        try {
-            // 고유한 JobParameters 생성 (중복 실행 방지)
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("timestamp", LocalDateTime.now().toString())
-                    .toJobParameters();
-
-            // Job 실행
-            var jobExecution = jobLauncher.run(labelDetailJob2, jobParameters);
-
-            log.info("Label detail job2 started with execution id: {}", jobExecution.getId());
-
-            return ResponseEntity.ok(Map.of(
-                    "status", "started",
-                    "executionId", jobExecution.getId(),
-                    "message", "Label detail job2 has been started successfully"
-            ));
-
-        } catch (Exception e) {
-            log.error("Failed to start label detail2 job", e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "status", "error",
-                    "message", "Failed to start label detail job: " + e.getMessage()
-            ));
-        }
-    }
-
     private Map<String, Object> mapStepExecution(StepExecution stepExecution) {
         Map<String, Object> stepInfo = new HashMap<>();
         stepInfo.put("stepName", stepExecution.getStepName());
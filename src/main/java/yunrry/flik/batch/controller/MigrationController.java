@@ -23,6 +23,7 @@ public class MigrationController {
 
     private final JobLauncher jobLauncher;
     private final Job allMigrationJob;
+    private final Job incrementalMigrationJob;
     private final Job accommodationMigrationJob;
     private final Job culturalMigrationJob;
     private final Job festivalMigrationJob;
@@ -36,6 +37,11 @@ public class MigrationController {
         return executeJob(allMigrationJob, "allMigrationJob");
     }
 
+    @PostMapping("/incremental")
+    public ResponseEntity<Map<String, Object>> executeIncrementalMigration() {
+        return executeJob(incrementalMigrationJob, "incrementalMigrationJob");
+    }
+
     @PostMapping("/accommodation")
     public ResponseEntity<Map<String, Object>> executeAccommodationMigration() {
         return executeJob(accommodationMigrationJob, "accommodationMigrationJob");
@@ -21,21 +21,27 @@ import java.time.LocalDateTime;
 public class TourismDataCollectionController {
     private final JobLauncher jobLauncher;
     private final Job tourismDataCollectionJob;
+    private final Job tourismDataCollectionPartitionedJob;
 
     @PostMapping("/tourism")
     public ResponseEntity<String> executeTourismBatch(
             @RequestParam String serviceKey,
             @RequestParam String areaCode,
             @RequestParam String contentTypeId,
-            @RequestParam(defaultValue = "100") String collectCount) {
+            @RequestParam(defaultValue = "100") String collectCount,
+            @RequestParam(required = false) Boolean incremental) {
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
+            JobParametersBuilder builder = new JobParametersBuilder()
                     .addString("serviceKey", serviceKey)
                     .addString("areaCode", areaCode)
                     .addString("contentTypeId", contentTypeId)
                     .addString("collectCount", collectCount)
-                    .addLong("time", System.currentTimeMillis())
-                    .toJobParameters();
+                    .addLong("time", System.currentTimeMillis());
+            // 미지정 시 tourism-api.collection.incremental 설정값 사용
+            if (incremental != null) {
+                builder.addString("incremental", incremental.toString());
+            }
+            JobParameters jobParameters = builder.toJobParameters();
 
             var execution = jobLauncher.run(tourismDataCollectionJob, jobParameters);
 
@@ -49,4 +55,32 @@ public class TourismDataCollectionController {
             return ResponseEntity.status(500).body("Job failed: " + e.getMessage());
         }
     }
+
+    // 전체 지역 × 관광타입 수집 (파티션 병렬 실행, 단일 JobExecution)
+    @PostMapping("/tourism/all")
+    public ResponseEntity<String> executeTourismBatchForAll(
+            @RequestParam String serviceKey,
+            @RequestParam(defaultValue = "100") String collectCount,
+            @RequestParam(required = false) Boolean incremental) {
+        try {
+            JobParametersBuilder builder = new JobParametersBuilder()
+                    .addString("serviceKey", serviceKey)
+                    .addString("collectCount", collectCount)
+                    .addLong("time", System.currentTimeMillis());
+            if (incremental != null) {
+                builder.addString("incremental", incremental.toString());
+            }
+
+            var execution = jobLauncher.run(tourismDataCollectionPartitionedJob, builder.toJobParameters());
+
+            if (execution.getStatus().isUnsuccessful()) {
+                return ResponseEntity.status(500)
+                        .body("Job failed: " + execution.getExitStatus().getExitDescription());
+            }
+            return ResponseEntity.ok("Job executed successfully");
+        } catch (Exception e) {
+            log.error("Job execution failed", e);
+            return ResponseEntity.status(500).body("Job failed: " + e.getMessage());
+        }
+    }
 }
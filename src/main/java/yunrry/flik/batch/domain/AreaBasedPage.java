@@ -0,0 +1,15 @@
+package yunrry.flik.batch.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// areaBasedList2 한 페이지 조회 결과
+@Data
+@Builder
+public class AreaBasedPage {
+    private int pageNo;
+    private List<TourismRawData> items;
+    private int totalCount;     // 응답에 없으면 -1
+}
@@ -0,0 +1,8 @@
+package yunrry.flik.batch.domain;
+
+// Google Places 조회 결과 (API 오류로 판단하지 못한 경우는 기록하지 않음)
+public enum GooglePlaceOutcome {
+    FOUND,
+    NO_RATING,
+    NOT_FOUND
+}
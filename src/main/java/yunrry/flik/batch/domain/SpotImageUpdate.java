@@ -7,5 +7,6 @@ import lombok.Data;
 @AllArgsConstructor
 public class SpotImageUpdate {
     private Long id;
-    private String imageUrls; // 콤마 구분 문자열
-}
\ No newline at end of file
+    private String contentId;
+    private String imageUrls; // 콤마 구분 문자열 (동시 조회 모드에서는 beforeWrite 에서 채움)
+}
@@ -49,12 +49,13 @@ public class TourismRawData {
     // 원본 데이터
     private Map<String, Object> rawData;
 
-    // 도메인별 특화 필드들 (Map으로 관리)
-    private Map<String, String> domainFields;
+    // 도메인별 특화 필드 값 (ContentTypeSchema 의 도메인 필드 순서)
+    private String[] domainValues;
 
     // Google Place 정보
     private String googlePlaceId;
     private Double googleRating;
     private Integer googleReviewCount;
     private List<String> googleReviews;
+    private GooglePlaceOutcome googlePlaceOutcome; // 이번 조회 결과 (조회 실패 시 null)
 }
\ No newline at end of file
@@ -5,21 +5,32 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
 import yunrry.flik.batch.service.NotificationService;
+import yunrry.flik.batch.domain.GooglePlaceOutcome;
 import yunrry.flik.batch.domain.PlaceReview;
 import yunrry.flik.batch.domain.TourismRawData;
-import yunrry.flik.batch.service.GooglePlacesService;
+import yunrry.flik.batch.job.partitioner.GooglePlacesIdRangePartitioner;
+import yunrry.flik.batch.job.support.ChunkConcurrency;
+import yunrry.flik.batch.job.reader.GooglePlacesKeysetItemReader;
+import yunrry.flik.batch.repository.GooglePlaceEnrichmentRepository;
+import yunrry.flik.batch.repository.GooglePlaceOutcomeRepository;
+import yunrry.flik.batch.service.GooglePlaceResolver;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
@@ -36,13 +47,33 @@ public class GooglePlacesEnrichmentJob {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
-    private final JdbcTemplate jdbcTemplate;
-    private final GooglePlacesService googlePlacesService;
+    private final GooglePlaceResolver googlePlaceResolver;
+    private final GooglePlaceOutcomeRepository googlePlaceOutcomeRepository;
+    private final GooglePlaceEnrichmentRepository googlePlaceEnrichmentRepository;
     private final NotificationService discordNotificationService;
 
     private static final Logger nullRatingLogger = LoggerFactory.getLogger("NULL_RATING_LOGGER");
     private static final Logger noPlaceFoundLogger = LoggerFactory.getLogger("NO_PLACE_FOUND_LOGGER");
 
+    // true면 Text Search + Place Details 를 청크 단위로 모아 여러 아이템을 동시에 조회
+    @Value("${google.places.enrichment.concurrent:false}")
+    private boolean concurrentEnrichment;
+
+    // 동시에 조회 중인 아이템 수 상한 (아이템당 API 2회 호출, 초당 호출 수는 google.places.max-qps 로 별도 제한)
+    @Value("${google.places.enrichment.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${google.places.enrichment.chunk-size:10}")
+    private int chunkSize;
+
+    // 테이블별 id 범위 파티션 수 (= 동시에 실행하는 워커 스텝 수)
+    @Value("${google.places.enrichment.partitions:1}")
+    private int partitions;
+
+    // keyset 리더 페이지 크기
+    @Value("${google.places.enrichment.page-size:200}")
+    private int pageSize;
+
 
     @Bean
     public Job googlePlacesJob() {
@@ -60,89 +91,82 @@ public class GooglePlacesEnrichmentJob {
 
     @Bean
     public Step enrichCulturalFacilitiesStep() {
-        return new StepBuilder("enrichCulturalFacilitiesStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(culturalFacilitiesReader())
-                .processor(placesProcessor())
-                .writer(culturalFacilitiesWriter())
-                .build();
+        return partitionedStep("enrichCulturalFacilitiesStep", "fetched_cultural_facilities", culturalFacilitiesReader(), culturalFacilitiesWriter());
     }
 
     @Bean
     public Step enrichLeisureSportsStep() {
-        return new StepBuilder("enrichLeisureSportsStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(leisureSportsReader())
-                .processor(placesProcessor())
-                .writer(leisureSportsWriter())
-                .build();
+        return partitionedStep("enrichLeisureSportsStep", "fetched_sports_recreation", leisureSportsReader(), leisureSportsWriter());
     }
 
     @Bean
     public Step enrichShoppingStep() {
-        return new StepBuilder("enrichShoppingStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(shoppingReader())
-                .processor(placesProcessor())
-                .writer(shoppingWriter())
-                .build();
+        return partitionedStep("enrichShoppingStep", "fetched_shopping", shoppingReader(), shoppingWriter());
     }
 
     @Bean
-    public ItemReader<TourismRawData> culturalFacilitiesReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("culturalFacilitiesReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_cultural_facilities WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> culturalFacilitiesReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_cultural_facilities", pageSize);
     }
 
     @Bean
-    public ItemReader<TourismRawData> leisureSportsReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("leisureSportsReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_sports_recreation WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> leisureSportsReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_sports_recreation", pageSize);
     }
 
     @Bean
-    public ItemReader<TourismRawData> shoppingReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("shoppingReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_shopping WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> shoppingReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_shopping", pageSize);
     }
 
     @Bean
     public ItemWriter<TourismRawData> culturalFacilitiesWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_cultural_facilities", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_cultural_facilities", items);
     }
 
     @Bean
     public ItemWriter<TourismRawData> leisureSportsWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_sports_recreation", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_sports_recreation", items);
     }
 
     @Bean
     public ItemWriter<TourismRawData> shoppingWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_shopping", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_shopping", items);
+    }
+
+    /**
+     * 보강 대상 id 범위를 partitions 개로 나눠 워커 스텝을 병렬 실행
+     * 워커는 파티션 범위 안에서 keyset 으로 읽고 마지막 id 를 커밋마다 저장하므로, 실패한 파티션만 이어서 재시작
+     */
+    private Step partitionedStep(String stepName, String tableName,
+                                 ItemStreamReader<TourismRawData> reader, ItemWriter<TourismRawData> writer) {
+        Step workerStep = new StepBuilder(stepName + "Worker", jobRepository)
+                .<TourismRawData, TourismRawData>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .processor(placesProcessor())
+                .listener(placesEnrichmentListener())
+                .writer(writer)
+                .build();
+
+        return new StepBuilder(stepName, jobRepository)
+                .partitioner(workerStep.getName(), new GooglePlacesIdRangePartitioner(googlePlaceEnrichmentRepository, tableName))
+                .step(workerStep)
+                .taskExecutor(googlePlacesTaskExecutor())
+                .gridSize(partitions)
+                .build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor googlePlacesTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, partitions));
+        executor.setMaxPoolSize(Math.max(1, partitions));
+        executor.setThreadNamePrefix("google-places-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
     }
 
     @Bean
@@ -151,12 +175,15 @@ public class GooglePlacesEnrichmentJob {
             @Override
             public void beforeJob(JobExecution jobExecution) {
                 log.info("Google Places enrichment job started: {}", jobExecution.getId());
+                googlePlaceResolver.refresh();
                 discordNotificationService.sendGooglePlacesJobStartAlert(jobExecution);
             }
 
             @Override
             public void afterJob(JobExecution jobExecution) {
                 discordNotificationService.sendGooglePlacesJobCompletionAlert(jobExecution);
+                log.info("Google place resolution - text searches avoided: {}, text searches: {}",
+                        googlePlaceResolver.getSearchesAvoided(), googlePlaceResolver.getSearches());
                 log.info("Google Places enrichment job finished: {} with status: {}",
                         jobExecution.getId(), jobExecution.getStatus());
             }
@@ -165,52 +192,35 @@ public class GooglePlacesEnrichmentJob {
 
     @Bean
     public Step enrichTouristAttractionsStep() {
-        return new StepBuilder("enrichTouristAttractionsStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(touristAttractionsReader())
-                .processor(placesProcessor())
-                .writer(touristAttractionsWriter())
-                .build();
+        return partitionedStep("enrichTouristAttractionsStep", "fetched_tourist_attractions", touristAttractionsReader(), touristAttractionsWriter());
     }
 
     @Bean
     public Step enrichRestaurantsStep() {
-        return new StepBuilder("enrichRestaurantsStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(restaurantsReader())
-                .processor(placesProcessor())
-                .writer(restaurantsWriter())
-                .build();
+        return partitionedStep("enrichRestaurantsStep", "fetched_restaurants", restaurantsReader(), restaurantsWriter());
     }
 
     @Bean
     public Step enrichFestivalsStep() {
         return new StepBuilder("enrichFestivalsStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
+                .<TourismRawData, TourismRawData>chunk(chunkSize, transactionManager)
                 .reader(festivalsReader())
                 .processor(placesProcessor())
+                .listener(placesEnrichmentListener())
                 .writer(festivalsWriter())
                 .build();
     }
 
     @Bean
-    public ItemReader<TourismRawData> touristAttractionsReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("touristAttractionsReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_tourist_attractions WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> touristAttractionsReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_tourist_attractions", pageSize);
     }
 
     @Bean
-    public ItemReader<TourismRawData> restaurantsReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("restaurantsReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_restaurants WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> restaurantsReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_restaurants", pageSize);
     }
 
     @Bean
@@ -218,7 +228,7 @@ public class GooglePlacesEnrichmentJob {
         return new JdbcCursorItemReaderBuilder<TourismRawData>()
                 .name("festivalsReader")
                 .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_festivals_events WHERE google_rating IS NULL")
+                .sql("SELECT content_id, title, addr1, NULL AS google_place_id FROM fetched_festivals_events WHERE google_rating IS NULL")
                 .rowMapper(this::mapRow)
                 .build();
     }
@@ -226,73 +236,100 @@ public class GooglePlacesEnrichmentJob {
     @Bean
     public ItemProcessor<TourismRawData, TourismRawData> placesProcessor() {
         return item -> {
-            try {
-                PlaceReview placeData = googlePlacesService.getPlaceData(item.getTitle(), item.getAddr1());
-
-                if (placeData != null) {
-                    if (placeData.getRating() != null) {
-                        // 정상 처리
-                        item.setGoogleRating(placeData.getRating());
-                        item.setGoogleReviewCount(placeData.getReviewCount());
-                        item.setGoogleReviews(placeData.getReviews());
-                        item.setGooglePlaceId(placeData.getPlaceId());
-
-                        log.debug("Success: {} | Rating: {}", item.getTitle(), placeData.getRating());
-                    } else {
-                        // rating이 null인 경우 별도 로거로 저장
-                        nullRatingLogger.info("ContentId={}, Title='{}', Address='{}', PlaceId={}, ReviewCount={}",
-                                item.getContentId(),
-                                item.getTitle().replace(",", "\\,"), // CSV 안전을 위해 쉼표 이스케이프
-                                item.getAddr1().replace(",", "\\,"),
-                                placeData.getPlaceId(),
-                                placeData.getReviewCount());
-
-                        item.setGooglePlaceId(placeData.getPlaceId());
-                        item.setGoogleReviewCount(placeData.getReviewCount());
-                        item.setGoogleReviews(placeData.getReviews());
-                    }
-                } else {
-                    // 장소를 찾지 못한 경우 별도 로거로 저장
-                    noPlaceFoundLogger.info("ContentId={}, Title='{}', Address='{}'",
-                            item.getContentId(),
-                            item.getTitle().replace(",", "\\,"),
-                            item.getAddr1().replace(",", "\\,"));
-                }
-
+            if (concurrentEnrichment) {
+                // 조회는 beforeWrite에서 청크 전체를 한 번에 처리
                 return item;
+            }
 
+            try {
+                applyPlaceData(item, googlePlaceResolver.resolve(item));
             } catch (Exception e) {
                 log.error("API Error for {}: {}", item.getContentId(), e.getMessage());
-                return item;
             }
+            return item;
         };
     }
 
+    /**
+     * 동시 조회 모드: 청크 아이템의 Text Search -> Place Details 를 max-in-flight 개씩 겹쳐서 호출
+     * 결과는 각 아이템에 직접 반영하므로 writer 에는 청크 순서 그대로 전달됨
+     */
     @Bean
-    public ItemWriter<TourismRawData> touristAttractionsWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_tourist_attractions", item);
+    public ItemWriteListener<TourismRawData> placesEnrichmentListener() {
+        return new ItemWriteListener<>() {
+            @Override
+            public void beforeWrite(Chunk<? extends TourismRawData> chunk) {
+                if (!concurrentEnrichment || chunk.isEmpty()) {
+                    return;
+                }
+
+                long elapsed = ChunkConcurrency.forEach(chunk, GooglePlacesEnrichmentJob.this::enrichAsync, maxInFlight);
+
+                log.info("Concurrent places enrichment completed - items: {}, maxInFlight: {}, elapsed: {}ms",
+                        chunk.size(), maxInFlight, elapsed);
             }
         };
     }
 
+    private Mono<Void> enrichAsync(TourismRawData item) {
+        return googlePlaceResolver.resolveAsync(item)
+                .doOnNext(placeData -> applyPlaceData(item, placeData))
+                .switchIfEmpty(Mono.fromRunnable(() -> applyPlaceData(item, null)))
+                .onErrorResume(e -> {
+                    log.error("API Error for {}: {}", item.getContentId(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void applyPlaceData(TourismRawData item, PlaceReview placeData) {
+        if (placeData != null) {
+            if (placeData.getRating() != null) {
+                // 정상 처리
+                item.setGoogleRating(placeData.getRating());
+                item.setGoogleReviewCount(placeData.getReviewCount());
+                item.setGoogleReviews(placeData.getReviews());
+                item.setGooglePlaceId(placeData.getPlaceId());
+                item.setGooglePlaceOutcome(GooglePlaceOutcome.FOUND);
+
+                log.debug("Success: {} | Rating: {}", item.getTitle(), placeData.getRating());
+            } else {
+                // rating이 null인 경우 별도 로거로 저장
+                nullRatingLogger.info("ContentId={}, Title='{}', Address='{}', PlaceId={}, ReviewCount={}",
+                        item.getContentId(),
+                        item.getTitle().replace(",", "\\,"), // CSV 안전을 위해 쉼표 이스케이프
+                        item.getAddr1().replace(",", "\\,"),
+                        placeData.getPlaceId(),
+                        placeData.getReviewCount());
+
+                item.setGooglePlaceId(placeData.getPlaceId());
+                item.setGoogleReviewCount(placeData.getReviewCount());
+                item.setGoogleReviews(placeData.getReviews());
+                item.setGooglePlaceOutcome(GooglePlaceOutcome.NO_RATING);
+            }
+        } else {
+            // 장소를 찾지 못한 경우 별도 로거로 저장
+            noPlaceFoundLogger.info("ContentId={}, Title='{}', Address='{}'",
+                    item.getContentId(),
+                    item.getTitle().replace(",", "\\,"),
+                    item.getAddr1().replace(",", "\\,"));
+            item.setGooglePlaceOutcome(GooglePlaceOutcome.NOT_FOUND);
+        }
+    }
+
+    @Bean
+    public ItemWriter<TourismRawData> touristAttractionsWriter() {
+        return items -> writeGoogleData("fetched_tourist_attractions", items);
+    }
+
     @Bean
     public ItemWriter<TourismRawData> restaurantsWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_restaurants", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_restaurants", items);
     }
 
     @Bean
     public ItemWriter<TourismRawData> festivalsWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_festivals_events", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_festivals_events", items);
     }
 
     private TourismRawData mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -300,58 +337,30 @@ public class GooglePlacesEnrichmentJob {
                 .contentId(rs.getString("content_id"))
                 .title(rs.getString("title"))
                 .addr1(rs.getString("addr1"))
+                .googlePlaceId(rs.getString("google_place_id"))
                 .build();
     }
 
-    private void updateGoogleData(String tableName, TourismRawData item) {
-        String sql = String.format("""
-            UPDATE %s SET 
-                google_place_id = ?,
-                google_rating = ?,
-                google_review_count = ?,
-                google_reviews = ?,
-                updated_at = CURRENT_TIMESTAMP
-            WHERE content_id = ?
-            """, tableName);
-
-        String reviewsJson = item.getGoogleReviews() != null ?
-                String.join("|||", item.getGoogleReviews()) : null;
-
-        jdbcTemplate.update(sql,
-                item.getGooglePlaceId(),
-                item.getGoogleRating(),
-                item.getGoogleReviewCount(),
-                reviewsJson,
-                item.getContentId());
+    // 청크 단위 배치 UPDATE, 미발견/별점 없음 판정은 남겨 재조회 시각 전까지 리더에서 제외
+    private void writeGoogleData(String tableName, Chunk<? extends TourismRawData> items) {
+        googlePlaceEnrichmentRepository.updateGoogleData(tableName, items.getItems());
+        googlePlaceOutcomeRepository.saveOutcomes(tableName, items.getItems());
     }
 
     @Bean
     public Step enrichAccommodationsStep() {
-        return new StepBuilder("enrichAccommodationsStep", jobRepository)
-                .<TourismRawData, TourismRawData>chunk(10, transactionManager)
-                .reader(accommodationsReader())
-                .processor(placesProcessor())
-                .writer(accommodationsWriter())
-                .build();
+        return partitionedStep("enrichAccommodationsStep", "fetched_accommodations", accommodationsReader(), accommodationsWriter());
     }
 
     @Bean
-    public ItemReader<TourismRawData> accommodationsReader() {
-        return new JdbcCursorItemReaderBuilder<TourismRawData>()
-                .name("accommodationsReader")
-                .dataSource(dataSource)
-                .sql("SELECT content_id, title, addr1 FROM fetched_accommodations WHERE google_rating IS NULL")
-                .rowMapper(this::mapRow)
-                .build();
+    @StepScope
+    public ItemStreamReader<TourismRawData> accommodationsReader() {
+        return new GooglePlacesKeysetItemReader(googlePlaceEnrichmentRepository, "fetched_accommodations", pageSize);
     }
 
     @Bean
     public ItemWriter<TourismRawData> accommodationsWriter() {
-        return items -> {
-            for (TourismRawData item : items) {
-                updateGoogleData("fetched_accommodations", item);
-            }
-        };
+        return items -> writeGoogleData("fetched_accommodations", items);
     }
 
 
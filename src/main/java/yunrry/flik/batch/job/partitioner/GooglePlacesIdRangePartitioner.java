@@ -0,0 +1,52 @@
+package yunrry.flik.batch.job.partitioner;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import yunrry.flik.batch.job.reader.GooglePlacesKeysetItemReader;
+import yunrry.flik.batch.repository.GooglePlaceEnrichmentRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Google Places 보강 파티셔너
+ * - 보강 대상(google_rating IS NULL) id 의 최소~최대를 gridSize 개 구간으로 나눔 (워커 스텝 ExecutionContext 에 minId, maxId 저장)
+ * - 대상이 없으면 빈 구간 파티션 1개
+ */
+public class GooglePlacesIdRangePartitioner implements Partitioner {
+
+    private final GooglePlaceEnrichmentRepository repository;
+    private final String tableName;
+
+    public GooglePlacesIdRangePartitioner(GooglePlaceEnrichmentRepository repository, String tableName) {
+        this.repository = repository;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        long[] range = repository.findPendingIdRange(tableName);
+        if (range == null) {
+            partitions.put(tableName + "-empty", context(1, 0));
+            return partitions;
+        }
+
+        long minId = range[0];
+        long maxId = range[1];
+        int grid = Math.max(1, gridSize);
+        long span = (maxId - minId) / grid + 1;
+        for (long start = minId; start <= maxId; start += span) {
+            long end = Math.min(maxId, start + span - 1);
+            partitions.put(tableName + "-" + start + "-" + end, context(start, end));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext context(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(GooglePlacesKeysetItemReader.CTX_MIN_ID, minId);
+        context.putLong(GooglePlacesKeysetItemReader.CTX_MAX_ID, maxId);
+        return context;
+    }
+}
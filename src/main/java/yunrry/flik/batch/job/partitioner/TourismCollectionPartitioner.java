@@ -0,0 +1,38 @@
+package yunrry.flik.batch.job.partitioner;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관광정보 수집 파티셔너
+ * - 지역코드 × 관광타입 조합마다 파티션 1개 (워커 스텝 ExecutionContext 에 areaCode, contentTypeId 저장)
+ * - 파티션 수는 고정이므로 gridSize 는 사용하지 않음 (동시 실행 수는 TaskExecutor 로 제한)
+ */
+@Component
+public class TourismCollectionPartitioner implements Partitioner {
+
+    public static final List<String> AREA_CODES = List.of(
+            "2", "3", "4", "5", "6", "7", "8", "31", "32", "33", "34", "35", "36", "37", "38", "39", "1"
+    );
+    // 관광타입(12:관광지, 14:문화시설, 15:축제공연행사, 28:레포츠, 32:숙박, 38:쇼핑, 39:음식점)
+    public static final List<String> CONTENT_TYPE_IDS = List.of("12", "14", "15", "28", "32", "38", "39");
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (String areaCode : AREA_CODES) {
+            for (String contentTypeId : CONTENT_TYPE_IDS) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString("areaCode", areaCode);
+                context.putString("contentTypeId", contentTypeId);
+                partitions.put("area" + areaCode + "-type" + contentTypeId, context);
+            }
+        }
+        return partitions;
+    }
+}
@@ -1,38 +1,85 @@
 package yunrry.flik.batch.job.processor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.exception.ApiLimitExceededException;
+import yunrry.flik.batch.job.support.ChunkConcurrency;
 import yunrry.flik.batch.mapper.FieldMapper;
+import yunrry.flik.batch.repository.TourismDataRepository;
 import yunrry.flik.batch.service.ApiService;
 import org.springframework.batch.core.StepExecution;
 import yunrry.flik.batch.service.NotificationService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
 public class DynamicTourismProcessor implements ItemProcessor<TourismRawData, TourismRawData> {
 
     private final NotificationService notificationService;
     private final ApiService apiService;
     private final FieldMapper fieldMapper;
+    private final TourismDataRepository tourismDataRepository;
 
+    // true면 detailIntro2/detailCommon2 호출을 청크 단위로 모아 동시에 실행
+    @Value("${tourism-api.enrichment.concurrent:false}")
+    private boolean concurrentEnrichment;
+
+    // 동시에 보강 중인 아이템 수 상한 (아이템당 API 2회 호출)
+    @Value("${tourism-api.enrichment.max-in-flight:8}")
+    private int maxInFlight;
+
+    // 증분 수집 기본값 (job 파라미터 incremental 로 실행별 지정 가능)
+    @Value("${tourism-api.collection.incremental:false}")
+    private boolean incrementalDefault;
+
+    private StepExecution stepExecution;
     private String serviceKey;
     private String contentTypeId;
+    private boolean incremental;
+    private int unchangedCount;
+    private int changedCount;
 
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
         JobParameters jobParameters = stepExecution.getJobParameters();
         this.serviceKey = jobParameters.getString("serviceKey");
-        this.contentTypeId = jobParameters.getString("contentTypeId");
+        this.contentTypeId = stepExecution.getExecutionContext()
+                .getString("contentTypeId", jobParameters.getString("contentTypeId"));
+        this.incremental = Boolean.parseBoolean(
+                jobParameters.getString("incremental", String.valueOf(incrementalDefault)));
+        this.unchangedCount = 0;
+        this.changedCount = 0;
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (incremental) {
+            log.info("Incremental collection summary - contentTypeId: {}, changed/new: {}, unchanged(skipped): {}",
+                    contentTypeId, changedCount, unchangedCount);
+        }
+        return stepExecution.getExitStatus();
     }
 
     @Override
@@ -49,6 +96,79 @@ public class DynamicTourismProcessor implements ItemProcessor<TourismRawData, To
         item.setCollectedAt(LocalDateTime.now());
         item.setSource("http://apis.data.go.kr/B551011/KorService2");
 
+        if (concurrentEnrichment || incremental) {
+            // 상세 보강은 beforeWrite에서 청크 전체를 한 번에 처리
+            return item;
+        }
+
+        enrichSequentially(item);
+        return item;
+    }
+
+    /**
+     * 청크 단위 보강
+     * - 증분 모드: 저장된 modified_time 과 같은 아이템은 보강/쓰기 대상에서 제외
+     * - 동시 보강 모드: 남은 아이템의 detailIntro2 + detailCommon2 를 겹쳐서 호출
+     */
+    @BeforeWrite
+    public void beforeWrite(Chunk<? extends TourismRawData> chunk) {
+        if (!concurrentEnrichment && !incremental) {
+            return;
+        }
+
+        if (incremental) {
+            removeUnchanged(chunk);
+        }
+
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        if (!concurrentEnrichment) {
+            chunk.forEach(this::enrichSequentially);
+            return;
+        }
+
+        long elapsed;
+        try {
+            elapsed = ChunkConcurrency.forEach(chunk, this::enrichAsync, maxInFlight);
+        } catch (ApiLimitExceededException e) {
+            // 남은 아이템 호출은 flatMap 취소로 중단, 스텝 실패 처리
+            log.error("API limit exceeded during concurrent enrichment, stopping step - contentTypeId: {}", contentTypeId);
+            notificationService.sendAlert("DetailIntro/DetailCommon API 한도 초과 - 동시 보강 중단");
+            throw e;
+        }
+
+        log.info("Concurrent enrichment completed - items: {}, maxInFlight: {}, elapsed: {}ms",
+                chunk.size(), maxInFlight, elapsed);
+    }
+
+    // 청크의 content_id 를 한 번에 조회하여 modified_time 이 같은 아이템 제거
+    private void removeUnchanged(Chunk<? extends TourismRawData> chunk) {
+        List<String> contentIds = new ArrayList<>(chunk.size());
+        for (TourismRawData item : chunk) {
+            contentIds.add(item.getContentId());
+        }
+        Map<String, String> stored = tourismDataRepository.findEnrichedModifiedTimes(contentTypeId, contentIds);
+
+        int before = chunk.size();
+        for (Iterator<? extends TourismRawData> it = chunk.iterator(); it.hasNext(); ) {
+            TourismRawData item = it.next();
+            String storedModifiedTime = stored.get(item.getContentId());
+            if (storedModifiedTime != null && storedModifiedTime.equals(item.getModifiedTime())) {
+                it.remove();
+            }
+        }
+
+        int skipped = before - chunk.size();
+        // 쓰기 직전에 빠진 아이템은 프로세서 필터로 집계되지 않으므로 직접 반영 (read = write + filter 유지)
+        stepExecution.setFilterCount(stepExecution.getFilterCount() + skipped);
+        unchangedCount += skipped;
+        changedCount += chunk.size();
+        log.debug("Incremental filter - chunk: {}, unchanged: {}, to enrich: {}", before, skipped, chunk.size());
+    }
+
+    private void enrichSequentially(TourismRawData item) {
         try {
             enrichWithDetailIntro(item);
         } catch (ApiLimitExceededException e) {
@@ -62,19 +182,30 @@ public class DynamicTourismProcessor implements ItemProcessor<TourismRawData, To
             log.warn("DetailCommon API limit exceeded, skipping for: {}", item.getContentId());
             notificationService.sendAlert("DetailCommon API 한도 초과");
         }
+    }
 
-        return item;
+    private Mono<Void> enrichAsync(TourismRawData item) {
+        Mono<JsonNode> detailIntro = apiService.fetchDetailIntroAsync(item, serviceKey);
+        Mono<Optional<TourismRawData>> detailCommon = apiService.fetchDetailCommonAsync(item, serviceKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(detailIntro, detailCommon)
+                .doOnNext(result -> {
+                    applyDetailIntro(item, result.getT1());
+                    result.getT2().ifPresent(common -> applyDetailCommon(item, common));
+                })
+                .onErrorResume(e -> !(e instanceof ApiLimitExceededException), e -> {
+                    log.error("Failed to enrich concurrently: {}", item.getContentId(), e);
+                    return Mono.empty();
+                })
+                .then();
     }
 
     private void enrichWithDetailIntro(TourismRawData item) {
         try {
-            Map<String, Object> detailData = apiService.fetchDetailIntro(
-                    item.getContentId(), contentTypeId, serviceKey);
-
-            if (detailData != null && !detailData.isEmpty()) {
-                fieldMapper.mapCommonFields(item, detailData);
-                fieldMapper.mapDomainSpecificFields(item, detailData);
-            }
+            JsonNode detailData = apiService.fetchDetailIntro(item, serviceKey);
+            applyDetailIntro(item, detailData);
         } catch (Exception e) {
             log.error("Failed to enrich detail intro: {}", item.getContentId(), e);
         }
@@ -82,19 +213,29 @@ public class DynamicTourismProcessor implements ItemProcessor<TourismRawData, To
 
     private void enrichWithDetailCommon(TourismRawData item) {
         try {
-            TourismRawData detailCommonData = apiService.fetchDetailCommon(item.getContentId(), serviceKey);
-
-            if (detailCommonData != null) {
-                item.setOverview(detailCommonData.getOverview());
-                item.setLabelDepth1(detailCommonData.getLabelDepth1());
-                item.setLabelDepth2(detailCommonData.getLabelDepth2());
-                item.setLabelDepth3(detailCommonData.getLabelDepth3());
-            }
+            TourismRawData detailCommonData = apiService.fetchDetailCommon(item, serviceKey);
+            applyDetailCommon(item, detailCommonData);
         } catch (Exception e) {
             log.error("Failed to enrich detail common: {}", item.getContentId(), e);
         }
     }
 
+    private void applyDetailIntro(TourismRawData item, JsonNode detailData) {
+        if (detailData != null && !detailData.isEmpty()) {
+            fieldMapper.mapCommonFields(item, detailData);
+            fieldMapper.mapDomainSpecificFields(item, detailData);
+        }
+    }
+
+    private void applyDetailCommon(TourismRawData item, TourismRawData detailCommonData) {
+        if (detailCommonData != null) {
+            item.setOverview(detailCommonData.getOverview());
+            item.setLabelDepth1(detailCommonData.getLabelDepth1());
+            item.setLabelDepth2(detailCommonData.getLabelDepth2());
+            item.setLabelDepth3(detailCommonData.getLabelDepth3());
+        }
+    }
+
     private boolean isValidData(TourismRawData item) {
         return item.getContentId() != null && !item.getContentId().trim().isEmpty() &&
                 item.getTitle() != null && !item.getTitle().trim().isEmpty();
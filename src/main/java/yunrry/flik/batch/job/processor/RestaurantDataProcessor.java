@@ -1,5 +1,6 @@
 package yunrry.flik.batch.job.processor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
@@ -11,7 +12,6 @@ import yunrry.flik.batch.service.ApiService;
 import yunrry.flik.batch.service.RestaurantApiService;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Slf4j
 @Component
@@ -62,7 +62,7 @@ public class RestaurantDataProcessor implements ItemProcessor<TourismRawData, To
 
                 try {
                     // detailIntro2 API 호출
-                    Map<String, Object> detailData = apiService.fetchDetailIntro(
+                    JsonNode detailData = apiService.fetchDetailIntro(
                             item.getContentId(),
                             item.getContentTypeId(),
                             serviceKey
@@ -2,12 +2,19 @@ package yunrry.flik.batch.job.processor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import yunrry.flik.batch.domain.SpotImageRecord;
 import yunrry.flik.batch.domain.SpotImageUpdate;
+import yunrry.flik.batch.job.support.ChunkConcurrency;
 import yunrry.flik.batch.service.SpotImageApiClient;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,16 +25,69 @@ public class SpotImageUpdateProcessor implements ItemProcessor<SpotImageRecord,
 
     private final SpotImageApiClient apiClient;
 
+    // true면 detailImage2 호출을 청크 단위로 모아 동시에 실행
+    @Value("${tourism-api.image-backfill.concurrent:false}")
+    private boolean concurrentFetch;
+
+    // 동시에 조회 중인 스팟 수 상한 (tour-api 커넥션 풀 크기 이하)
+    @Value("${tourism-api.image-backfill.max-in-flight:8}")
+    private int maxInFlight;
+
+    private StepExecution stepExecution;
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        apiClient.resetSubImageSupport();
+    }
+
     @Override
     public SpotImageUpdate process(SpotImageRecord item) {
         if (item.getContentId() == null || item.getContentId().isBlank()) return null;
 
+        if (concurrentFetch) {
+            // 이미지 조회는 beforeWrite에서 청크 전체를 한 번에 처리
+            return new SpotImageUpdate(item.getId(), item.getContentId(), null);
+        }
+
         List<String> urls = apiClient.fetchOriginImageUrls(item.getContentId());
         if (urls.isEmpty()) {
             // 업데이트할 값이 없으면 스킵
             return null;
         }
-        String joined = urls.stream().distinct().collect(Collectors.joining(","));
-        return new SpotImageUpdate(item.getId(), joined);
+        return new SpotImageUpdate(item.getId(), item.getContentId(), join(urls));
+    }
+
+    /**
+     * 청크 단위 동시 조회
+     * - 청크의 모든 조회가 끝난 뒤에 쓰기/커밋이 진행되므로 완료 순서와 관계없이 리더의 lastId 체크포인트는 그대로 유효
+     * - 이미지가 없는 스팟은 쓰기 대상에서 제외
+     */
+    @BeforeWrite
+    public void beforeWrite(Chunk<? extends SpotImageUpdate> chunk) {
+        if (!concurrentFetch || chunk.isEmpty()) {
+            return;
+        }
+
+        long elapsed = ChunkConcurrency.forEach(chunk, item -> apiClient.fetchOriginImageUrlsAsync(item.getContentId())
+                .filter(urls -> !urls.isEmpty())
+                .doOnNext(urls -> item.setImageUrls(join(urls))), maxInFlight);
+
+        int fetched = chunk.size();
+        for (Iterator<? extends SpotImageUpdate> it = chunk.iterator(); it.hasNext(); ) {
+            if (it.next().getImageUrls() == null) {
+                it.remove();
+            }
+        }
+
+        // 쓰기 직전에 빠진 아이템은 프로세서 필터로 집계되지 않으므로 직접 반영 (동기 모드의 null 반환과 같은 지표)
+        stepExecution.setFilterCount(stepExecution.getFilterCount() + fetched - chunk.size());
+
+        log.info("Concurrent image fetch completed - items: {}, with images: {}, maxInFlight: {}, elapsed: {}ms",
+                fetched, chunk.size(), maxInFlight, elapsed);
+    }
+
+    private String join(List<String> urls) {
+        return urls.stream().distinct().collect(Collectors.joining(","));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package yunrry.flik.batch.job.processor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
@@ -12,7 +13,6 @@ import yunrry.flik.batch.service.ApiService;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Component
@@ -63,7 +63,7 @@ public class TourismDataProcessor implements ItemProcessor<TourismRawData, Touri
 
                 try {
                     // detailIntro2 API 호출
-                    Map<String, Object> detailData = apiService.fetchDetailIntro(
+                    JsonNode detailData = apiService.fetchDetailIntro(
                             item.getContentId(),
                             item.getContentTypeId(),
                             serviceKey
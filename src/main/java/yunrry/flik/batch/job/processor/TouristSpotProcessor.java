@@ -1,5 +1,6 @@
 package yunrry.flik.batch.job.processor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobParameters;
@@ -12,7 +13,6 @@ import yunrry.flik.batch.mapper.FieldMapper;
 import yunrry.flik.batch.service.ApiService;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Slf4j
 @Component
@@ -84,7 +84,7 @@ public class TouristSpotProcessor implements ItemProcessor<TourismRawData, Touri
 
     private void enrichWithDetailIntro(TourismRawData item) {
         try {
-            Map<String, Object> detailData = apiService.fetchDetailIntro(
+            JsonNode detailData = apiService.fetchDetailIntro(
                     item.getContentId(),
                     CONTENT_TYPE_ID,
                     serviceKey
@@ -106,7 +106,7 @@ public class TouristSpotProcessor implements ItemProcessor<TourismRawData, Touri
 
     private void enrichWithDetailCommon(TourismRawData item) {
         try {
-            TourismRawData detailCommonData = apiService.fetchDetailCommon(item.getContentId(), serviceKey);
+            TourismRawData detailCommonData = apiService.fetchDetailCommon(item, serviceKey);
 
             if (detailCommonData != null) {
                 item.setOverview(detailCommonData.getOverview());
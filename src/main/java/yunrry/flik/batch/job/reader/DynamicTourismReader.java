@@ -2,29 +2,41 @@ package yunrry.flik.batch.job.reader;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import yunrry.flik.batch.domain.ApiCallHistory;
+import yunrry.flik.batch.domain.AreaBasedPage;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.exception.ApiLimitExceededException;
 import yunrry.flik.batch.exception.RateLimitExceededException;
 import yunrry.flik.batch.repository.TourismDataRepository;
 import yunrry.flik.batch.service.ApiService;
 import yunrry.flik.batch.service.RateLimitService;
+import yunrry.flik.batch.service.TourApiKeyPool;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
 public class DynamicTourismReader implements ItemReader<TourismRawData> {
 
     private final ApiService apiService;
-    private final RateLimitService rateLimitService;
+    private final TourApiKeyPool tourApiKeyPool;
     private final TourismDataRepository tourismDataRepository;
 
     private List<TourismRawData> currentBatch;
@@ -36,12 +48,23 @@ public class DynamicTourismReader implements ItemReader<TourismRawData> {
     private String contentTypeId;
     private String collectCount;
 
+    // 미리 조회해 둘 페이지 수 (0이면 한 페이지씩 순차 조회)
+    @Value("${tourism-api.collection.prefetch-pages:0}")
+    private int prefetchPages;
+
+    // 요청 순서대로 소비되는 선조회 페이지 (크기 = 동시 요청 수 상한)
+    private final Deque<CompletableFuture<AreaBasedPage>> prefetched = new ArrayDeque<>();
+    private int nextPageToRequest;
+    private int lastPage = Integer.MAX_VALUE;
+
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
         JobParameters jobParameters = stepExecution.getJobParameters();
+        // 파티션 실행이면 워커 스텝 ExecutionContext 값 우선
+        ExecutionContext partition = stepExecution.getExecutionContext();
         this.serviceKey = jobParameters.getString("serviceKey");
-        this.areaCode = jobParameters.getString("areaCode");
-        this.contentTypeId = jobParameters.getString("contentTypeId");
+        this.areaCode = partition.getString("areaCode", jobParameters.getString("areaCode"));
+        this.contentTypeId = partition.getString("contentTypeId", jobParameters.getString("contentTypeId"));
         this.collectCount = jobParameters.getString("collectCount", "100");
 
         // 이전 호출 이력 조회하여 시작 페이지 설정
@@ -57,6 +80,11 @@ public class DynamicTourismReader implements ItemReader<TourismRawData> {
         int nextPage = computeNextPage(history, currentSize);
         currentPage.set(nextPage);
 
+        cancelPrefetch();
+        currentBatch = null;
+        currentIndex.set(0);
+        lastPage = Integer.MAX_VALUE;
+
         log.info("DynamicTourismReader initialized - area: {}, type: {}, last(page,size)=({},{}) -> startPage: {} (currentSize: {})",
                 areaCode, contentTypeId,
                 history != null ? history.getLastPageNo() : null,
@@ -64,21 +92,32 @@ public class DynamicTourismReader implements ItemReader<TourismRawData> {
                 currentPage.get(), currentSize);
     }
 
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        cancelPrefetch();
+        // 임대 토큰 반환은 잡(파티션 전체) 종료 시 한 번만 - 다른 파티션이 쓰는 임대분까지 돌려주지 않도록
+        return stepExecution.getExitStatus();
+    }
+
     @Override
     public TourismRawData read() throws Exception {
-        try {
-            rateLimitService.checkRateLimit();
-        } catch (RateLimitExceededException e) {
-            log.warn("Rate limit exceeded: {}", e.getMessage());
-            return null;
-        }
-
         log.debug("Reading data - currentBatch: {}, currentIndex: {}",
                 currentBatch != null ? currentBatch.size() : "null", currentIndex.get());
 
         if (currentBatch == null || currentIndex.get() >= currentBatch.size()) {
+            // 한도 확인은 페이지 조회 직전에만 (로컬 임대분이 남아 있으면 Redis 조회 없음)
+            try {
+                tourApiKeyPool.checkRateLimit(serviceKey, RateLimitService.AREA_BASED_LIST);
+            } catch (RateLimitExceededException e) {
+                log.warn("Rate limit exceeded: {}", e.getMessage());
+                return null;
+            }
             log.info("Fetching next batch - page: {}", currentPage.get());
-            fetchNextBatch();
+            if (prefetchPages > 0) {
+                fetchNextBatchPrefetched();
+            } else {
+                fetchNextBatch();
+            }
         }
 
         if (currentBatch == null || currentBatch.isEmpty()) {
@@ -112,6 +151,77 @@ public class DynamicTourismReader implements ItemReader<TourismRawData> {
         }
     }
 
+    /**
+     * 선조회 모드: 현재 페이지를 소비하는 동안 다음 페이지들을 미리 요청
+     * 이력(api_call_history)은 기존과 같이 페이지가 실제로 소비 대상이 될 때 순서대로 저장
+     */
+    private void fetchNextBatchPrefetched() {
+        int pageSize = Integer.parseInt(collectCount);
+
+        if (prefetched.isEmpty()) {
+            if (currentPage.get() > lastPage) {
+                currentBatch = List.of();
+                return;
+            }
+            nextPageToRequest = currentPage.get();
+            requestPage(nextPageToRequest++, pageSize);
+        }
+
+        AreaBasedPage page;
+        try {
+            page = prefetched.poll().join();
+        } catch (CompletionException e) {
+            cancelPrefetch();
+            currentBatch = null;
+            if (e.getCause() instanceof ApiLimitExceededException limitExceeded) {
+                log.error("API limit exceeded at page: {}", currentPage.get());
+                // 이력 업데이트 없이 중단
+                throw limitExceeded;
+            }
+            throw e;
+        }
+
+        // 첫 응답의 totalCount 로 마지막 페이지 계산
+        if (page.getTotalCount() >= 0) {
+            lastPage = Math.max(1, (page.getTotalCount() + pageSize - 1) / pageSize);
+        }
+
+        currentBatch = page.getItems();
+        currentIndex.set(0);
+
+        if (currentBatch != null && !currentBatch.isEmpty()) {
+            // 성공시에만 이력 저장
+            tourismDataRepository.saveApiCallHistory(contentTypeId, areaCode, page.getPageNo(), pageSize);
+            currentPage.set(page.getPageNo() + 1);
+            fillPrefetch(pageSize);
+        } else {
+            cancelPrefetch();
+        }
+    }
+
+    private void fillPrefetch(int pageSize) {
+        while (prefetched.size() < prefetchPages && nextPageToRequest <= lastPage) {
+            try {
+                tourApiKeyPool.checkRateLimit(serviceKey, RateLimitService.AREA_BASED_LIST);
+            } catch (RateLimitExceededException e) {
+                log.debug("Stop prefetching - {}", e.getMessage());
+                return;
+            }
+            requestPage(nextPageToRequest++, pageSize);
+        }
+    }
+
+    private void requestPage(int pageNo, int pageSize) {
+        prefetched.add(apiService.fetchAreaBasedPageAsync(pageNo, areaCode, contentTypeId, pageSize, serviceKey)
+                .toFuture());
+    }
+
+    private void cancelPrefetch() {
+        CompletableFuture<AreaBasedPage> future;
+        while ((future = prefetched.poll()) != null) {
+            future.cancel(true);
+        }
+    }
 
     private int computeNextPage(ApiCallHistory history, int currentPageSize) {
         if (history == null) return 1;
@@ -0,0 +1,80 @@
+package yunrry.flik.batch.job.reader;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import yunrry.flik.batch.domain.TourismRawData;
+import yunrry.flik.batch.repository.GooglePlaceEnrichmentRepository;
+import yunrry.flik.batch.repository.GooglePlaceEnrichmentRepository.PendingPlace;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Google Places 보강 대상 keyset 리더
+ * - 파티션 ExecutionContext 의 id 범위(minId~maxId) 안에서 id 순으로 페이지 조회
+ * - 마지막으로 읽은 id 를 커밋마다 저장하므로 재시작 시 테이블 중간부터 이어서 읽음
+ * - 범위가 없으면(단일 스텝 실행) 테이블 전체
+ */
+public class GooglePlacesKeysetItemReader implements ItemStreamReader<TourismRawData> {
+
+    public static final String CTX_MIN_ID = "minId";
+    public static final String CTX_MAX_ID = "maxId";
+    private static final String CTX_LAST_ID = "googlePlacesReader.lastId";
+
+    private final GooglePlaceEnrichmentRepository repository;
+    private final String tableName;
+    private final int pageSize;
+
+    private long lastId = 0L;
+    private long maxId = Long.MAX_VALUE;
+    private Iterator<PendingPlace> currentIt = null;
+    private boolean exhausted = false;
+
+    public GooglePlacesKeysetItemReader(GooglePlaceEnrichmentRepository repository, String tableName, int pageSize) {
+        this.repository = repository;
+        this.tableName = tableName;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public TourismRawData read() {
+        if (exhausted) return null;
+
+        if (currentIt == null || !currentIt.hasNext()) {
+            List<PendingPlace> page = repository.findNextPending(tableName, lastId, maxId, pageSize);
+            if (page.isEmpty()) {
+                exhausted = true;
+                return null;
+            }
+            currentIt = page.iterator();
+        }
+
+        PendingPlace next = currentIt.next();
+        lastId = next.id();
+        return next.item();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(CTX_MIN_ID)) {
+            this.lastId = executionContext.getLong(CTX_MIN_ID) - 1;
+        }
+        if (executionContext.containsKey(CTX_MAX_ID)) {
+            this.maxId = executionContext.getLong(CTX_MAX_ID);
+        }
+        if (executionContext.containsKey(CTX_LAST_ID)) {
+            this.lastId = executionContext.getLong(CTX_LAST_ID);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(CTX_LAST_ID, this.lastId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        this.currentIt = null;
+    }
+}
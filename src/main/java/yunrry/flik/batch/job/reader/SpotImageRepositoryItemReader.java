@@ -9,6 +9,11 @@ import yunrry.flik.batch.repository.SpotImageRepository;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * image_urls 가 없는 spots 를 id 순 keyset 페이지로 읽는 리더
+ * - lastId 는 청크 커밋 시점(update)에만 저장되며, 그때는 청크의 모든 아이템 처리/쓰기가 끝난 상태
+ * - 단일 스레드 스텝 전용 (동시성은 프로세서의 청크 단위 조회로 처리)
+ */
 public class SpotImageRepositoryItemReader implements ItemStreamReader<SpotImageRecord> {
 
     private static final String CTX_LAST_ID = "spotImageReader.lastId";
@@ -11,6 +11,7 @@ import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.exception.RateLimitExceededException;
 import yunrry.flik.batch.service.ApiService;
 import yunrry.flik.batch.service.RateLimitService;
+import yunrry.flik.batch.service.TourApiKeyPool;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -21,7 +22,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TouristSpotItemReader implements ItemReader<TourismRawData> {
 
     private final ApiService apiService;
-    private final RateLimitService rateLimitService;
+    private final TourApiKeyPool tourApiKeyPool;
 
     private List<TourismRawData> currentBatch;
     private AtomicInteger currentIndex = new AtomicInteger(0);
@@ -44,14 +45,14 @@ public class TouristSpotItemReader implements ItemReader<TourismRawData> {
 
     @Override
     public TourismRawData read() throws Exception {
-        try {
-            rateLimitService.checkRateLimit();
-        } catch (RateLimitExceededException e) {
-            log.warn("Rate limit exceeded, stopping batch: {}", e.getMessage());
-            return null;
-        }
-
         if (currentBatch == null || currentIndex.get() >= currentBatch.size()) {
+            // 한도 확인은 페이지 조회 직전에만 (로컬 임대분이 남아 있으면 Redis 조회 없음)
+            try {
+                tourApiKeyPool.checkRateLimit(serviceKey, RateLimitService.AREA_BASED_LIST);
+            } catch (RateLimitExceededException e) {
+                log.warn("Rate limit exceeded, stopping batch: {}", e.getMessage());
+                return null;
+            }
             fetchNextBatch();
         }
 
@@ -0,0 +1,38 @@
+package yunrry.flik.batch.job.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.batch.item.Chunk;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 청크 아이템을 동시에 처리하는 @BeforeWrite 공통 템플릿
+ * - 청크의 모든 호출이 끝난 뒤에 쓰기/커밋이 진행되므로 완료 순서와 관계없이 리더 체크포인트는 그대로 유효
+ * - 하나라도 에러로 끝나면 남은 호출은 취소되고 예외가 그대로 전파됨 (아이템별 에러 처리는 fn 에서)
+ */
+public final class ChunkConcurrency {
+
+    // 청크 하나의 동시 처리 대기 상한
+    public static final Duration CHUNK_TIMEOUT = Duration.ofMinutes(5);
+
+    private ChunkConcurrency() {
+    }
+
+    /**
+     * 청크 아이템마다 fn 을 최대 maxInFlight 개씩 겹쳐서 실행하고 모두 끝날 때까지 대기
+     *
+     * @return 소요 시간(ms)
+     */
+    public static <T> long forEach(Chunk<? extends T> chunk,
+                                   Function<? super T, ? extends Publisher<?>> fn,
+                                   int maxInFlight) {
+        long start = System.currentTimeMillis();
+        Flux.fromIterable(chunk.getItems())
+                .flatMap(fn, Math.max(1, maxInFlight))
+                .then()
+                .block(CHUNK_TIMEOUT);
+        return System.currentTimeMillis() - start;
+    }
+}
@@ -5,15 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.repository.TourismDataRepository;
 
+import java.util.Map;
+
 
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
 public class DynamicTourismWriter implements ItemWriter<TourismRawData> {
 
@@ -25,26 +30,25 @@ public class DynamicTourismWriter implements ItemWriter<TourismRawData> {
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
         JobParameters jobParameters = stepExecution.getJobParameters();
-        this.contentTypeId = jobParameters.getString("contentTypeId");
-        this.areaCode = jobParameters.getString("areaCode");
+        ExecutionContext partition = stepExecution.getExecutionContext();
+        this.contentTypeId = partition.getString("contentTypeId", jobParameters.getString("contentTypeId"));
+        this.areaCode = partition.getString("areaCode", jobParameters.getString("areaCode"));
     }
 
     @Override
     public void write(Chunk<? extends TourismRawData> chunk) throws Exception {
-        int successCount = 0;
-
-        for (TourismRawData item : chunk) {
-            try {
-                tourismDataRepository.saveAreaBasedData(item);
-                tourismDataRepository.updateDetailData(item);
-                tourismDataRepository.updateLabelDetailData(item);
-                successCount++;
-            } catch (Exception e) {
-                tourismDataRepository.rollbackApiCallHistory(contentTypeId, areaCode);
-                throw e;
-            }
+        // 증분 수집에서 모두 변경 없음으로 걸러진 청크
+        if (chunk.isEmpty()) {
+            return;
         }
 
-        log.info("Write completed - Success: {}, Total: {}", successCount, chunk.size());
+        try {
+            // 기본 + 상세 + 라벨을 행당 한 문장으로 청크 전체 배치 저장
+            Map<String, Integer> submitted = tourismDataRepository.saveCompleteDataBatch(chunk.getItems());
+            log.info("Write completed - Total: {}, submitted rows by table: {}", chunk.size(), submitted);
+        } catch (Exception e) {
+            tourismDataRepository.rollbackApiCallHistory(contentTypeId, areaCode);
+            throw e;
+        }
     }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.repository.TourismDataRepository;
 
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,23 +19,18 @@ public class RestaurantDataWriter implements ItemWriter<TourismRawData> {
 
     @Override
     public void write(Chunk<? extends TourismRawData> chunk) throws Exception {
-        int successCount = 0;
-        int failCount = 0;
-
-        for (TourismRawData item : chunk) {
-            try {
-                tourismDataRepository.saveAreaBasedData(item);
-                successCount++;
-                log.debug("Saved item: contentId={}, title={}", item.getContentId(), item.getTitle());
-            } catch (Exception e) {
-                failCount++;
-                log.error("Failed to save item: contentId={}, error={}", item.getContentId(), e.getMessage());
-                throw e;
-            }
+        if (chunk.isEmpty()) {
+            return;
         }
 
-        log.info("Batch write completed - Success: {}, Failed: {}, Total: {}",
-                successCount, failCount, chunk.size());
+        try {
+            // 테이블별 JDBC 배치 (청크당 테이블 수만큼만 왕복)
+            Map<String, Integer> submitted = tourismDataRepository.saveAreaBasedDataBatch(chunk.getItems());
+            log.info("Batch write completed - Total: {}, submitted rows by table: {}", chunk.size(), submitted);
+        } catch (Exception e) {
+            log.error("Failed to save chunk: size={}, error={}", chunk.size(), e.getMessage());
+            throw e;
+        }
     }
 
     public ItemWriter<TourismRawData> createDetailWriter() {
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.repository.TourismDataRepository;
 
+import java.util.Map;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,28 +19,17 @@ public class TouristSpotWriter implements ItemWriter<TourismRawData> {
 
     @Override
     public void write(Chunk<? extends TourismRawData> chunk) throws Exception {
-        int successCount = 0;
-        int failCount = 0;
-
-        for (TourismRawData item : chunk) {
-            try {
-                // 통합 저장 (기본정보 + 상세정보 + 라벨정보)
-                tourismDataRepository.saveAreaBasedData(item);
-                tourismDataRepository.updateDetailData(item);
-                tourismDataRepository.updateLabelDetailData(item);
-
-                successCount++;
-                log.debug("Saved complete tourist spot: contentId={}, title={}",
-                        item.getContentId(), item.getTitle());
-            } catch (Exception e) {
-                failCount++;
-                log.error("Failed to save tourist spot: contentId={}, error={}",
-                        item.getContentId(), e.getMessage());
-                throw e;
-            }
+        if (chunk.isEmpty()) {
+            return;
         }
 
-        log.info("Tourist spot write completed - Success: {}, Failed: {}, Total: {}",
-                successCount, failCount, chunk.size());
+        try {
+            // 통합 저장 (기본정보 + 상세정보 + 라벨정보를 행당 한 문장으로 배치 실행)
+            Map<String, Integer> submitted = tourismDataRepository.saveCompleteDataBatch(chunk.getItems());
+            log.info("Tourist spot write completed - Total: {}, submitted rows by table: {}", chunk.size(), submitted);
+        } catch (Exception e) {
+            log.error("Failed to save tourist spots: size={}, error={}", chunk.size(), e.getMessage());
+            throw e;
+        }
     }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import yunrry.flik.batch.service.NotificationService;
 import yunrry.flik.batch.service.RateLimitService;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -19,19 +21,29 @@ public class BatchJobListener implements JobExecutionListener {
 
     @Override
     public void afterJob(JobExecution jobExecution) {
+        // 임대받고 쓰지 않은 호출 한도 반환 (리더/스텝이 아닌 잡 종료 시 한 곳에서만)
+        rateLimitService.releaseLeases();
+
         String jobName = jobExecution.getJobInstance().getJobName();
         String status = jobExecution.getStatus().toString();
 
-        long totalRead = jobExecution.getStepExecutions().stream()
+        // 파티션 워커 스텝(stepName:partition)은 매니저 스텝에 합산되므로 제외
+        List<StepExecution> steps = jobExecution.getStepExecutions().stream()
+                .filter(step -> !step.getStepName().contains(":"))
+                .toList();
+
+        long totalRead = steps.stream()
                 .mapToLong(StepExecution::getReadCount).sum();
-        long totalWrite = jobExecution.getStepExecutions().stream()
+        long totalWrite = steps.stream()
                 .mapToLong(StepExecution::getWriteCount).sum();
-        long totalSkip = jobExecution.getStepExecutions().stream()
+        long totalFilter = steps.stream()
+                .mapToLong(StepExecution::getFilterCount).sum();
+        long totalSkip = steps.stream()
                 .mapToLong(StepExecution::getSkipCount).sum();
 
 
-        log.info("Job {} completed - Read: {}, Written: {}, Skipped: {}, API calls: {}",
-                jobName, totalRead, totalWrite, totalSkip, rateLimitService.getCurrentCount());
+        log.info("Job {} completed - Read: {}, Written: {}, Filtered: {}, Skipped: {}, API calls: {}",
+                jobName, totalRead, totalWrite, totalFilter, totalSkip, rateLimitService.getCurrentCount());
 
         if (status.equals("COMPLETED") && rateLimitService.getCurrentCount() >= 1000) {
             notificationService.sendRateLimitAlert(
@@ -0,0 +1,59 @@
+package yunrry.flik.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 마이그레이션 Job 실행 리포트
+ * 스텝별 적재 건수/소요 시간/rows/s 와 Job 전체 소요 시간(병렬 실행 시 가장 긴 스텝 기준)을 로그로 남김
+ */
+@Slf4j
+@Component
+public class MigrationReportListener implements JobExecutionListener {
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        jobExecution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(this::elapsed).reversed())
+                .forEach(step -> {
+                    Duration elapsed = elapsed(step);
+                    log.info("Migration step {} - status: {}, rows: {}, {}s, {} rows/s",
+                            step.getStepName(), step.getStatus(), step.getWriteCount(),
+                            String.format("%.1f", seconds(elapsed)), String.format("%.0f", rate(step.getWriteCount(), elapsed)));
+                });
+
+        long totalRows = jobExecution.getStepExecutions().stream()
+                .mapToLong(StepExecution::getWriteCount).sum();
+        Duration wallTime = between(jobExecution.getStartTime(), jobExecution.getEndTime());
+        log.info("Job {} migration report - steps: {}, rows: {}, wall time: {}s, {} rows/s",
+                jobExecution.getJobInstance().getJobName(), jobExecution.getStepExecutions().size(), totalRows,
+                String.format("%.1f", seconds(wallTime)), String.format("%.0f", rate(totalRows, wallTime)));
+    }
+
+    private Duration elapsed(StepExecution step) {
+        return between(step.getStartTime(), step.getEndTime());
+    }
+
+    // 종료 시각이 아직 기록되지 않았으면 현재 시각 기준
+    private Duration between(LocalDateTime start, LocalDateTime end) {
+        if (start == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(start, end != null ? end : LocalDateTime.now());
+    }
+
+    private double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    private double rate(long rows, Duration duration) {
+        return rows / Math.max(seconds(duration), 0.001);
+    }
+}
@@ -0,0 +1,291 @@
+package yunrry.flik.batch.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import yunrry.flik.batch.domain.TourismRawData;
+import yunrry.flik.batch.exception.ApiLimitExceededException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * areaBasedList2 응답 스트리밍 파서
+ * - DataBuffer 단위로 Jackson 논블로킹 파서에 바로 공급 (String/JsonNode/Map 중간 사본 없음)
+ * - response.body.items.item 의 필드를 TourismRawData 로 직접 채움
+ * - 호출 한도 초과 응답은 읽는 도중 감지하여 즉시 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AreaBasedListParser {
+
+    public static final String LIMIT_EXCEEDED_MARKER = "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR";
+
+    // JSON 이 아닌 에러 응답(XML)은 작으므로 이 크기까지만 모아서 검사
+    private static final int MAX_NON_JSON_BYTES = 64 * 1024;
+
+    private static final String[] FIELDS = {
+            "contentid", "contenttypeid", "title", "addr1", "addr2", "firstimage", "firstimage2",
+            "mapx", "mapy", "areacode", "sigungucode", "cat1", "cat2", "cat3",
+            "createdtime", "modifiedtime", "tel", "zipcode", "overview"
+    };
+    private static final Map<String, Integer> FIELD_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < FIELDS.length; i++) {
+            FIELD_INDEX.put(FIELDS[i], i);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    /** 응답 1건 파싱용 세션 생성 (스레드 안전하지 않음, 응답마다 새로 생성) */
+    public Session newSession(boolean includeRawData) {
+        try {
+            return new Session(objectMapper.getFactory().createNonBlockingByteArrayParser(), includeRawData);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static final class Session {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final boolean includeRawData;
+        private final List<TourismRawData> items = new ArrayList<>();
+
+        private Boolean json;               // 첫 바이트를 보기 전까지 null
+        private StringBuilder nonJsonBody;
+
+        private String[] values;            // 현재 item 필드 값 (item 밖이면 null)
+        private Map<String, Object> raw;
+        private int nested;                 // item 내부 중첩 구조 깊이 (무시 대상)
+        private String fieldName;
+
+        private int totalCount = -1;
+        private int skipped;
+
+        private Session(JsonParser parser, boolean includeRawData) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.includeRawData = includeRawData;
+        }
+
+        /** 수신한 버퍼를 공급하고 완성된 토큰까지 처리 (버퍼 해제는 호출자 책임) */
+        public void feed(DataBuffer buffer) {
+            int length = buffer.readableByteCount();
+            if (length == 0) {
+                return;
+            }
+            byte[] bytes = new byte[length];
+            buffer.read(bytes);
+
+            if (json == null) {
+                json = startsWithJson(bytes);
+                if (json == null) {
+                    return;     // 공백만 수신
+                }
+            }
+
+            if (!json) {
+                appendNonJson(bytes);
+                return;
+            }
+
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** 입력 종료 처리 후 파싱된 아이템 반환 */
+        public List<TourismRawData> finish() {
+            if (json == null || !json) {
+                String body = nonJsonBody != null ? nonJsonBody.toString() : "";
+                if (body.contains(LIMIT_EXCEEDED_MARKER)) {
+                    throw new ApiLimitExceededException("API 호출 한도 초과");
+                }
+                log.warn("Non-JSON areaBasedList2 response: {}", body.substring(0, Math.min(200, body.length())));
+                return Collections.emptyList();
+            }
+
+            try {
+                feeder.endOfInput();
+                drain();
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            log.info("Parsed {} items (filtered out {} travel courses)", items.size(), skipped);
+            return items;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token);
+            }
+        }
+
+        private void handle(JsonToken token) throws IOException {
+            if (values != null) {
+                handleItemToken(token);
+                return;
+            }
+
+            switch (token) {
+                case START_OBJECT -> {
+                    if (isItemContext(parser.getParsingContext())) {
+                        values = new String[FIELDS.length];
+                        raw = includeRawData ? new LinkedHashMap<>() : null;
+                        nested = 0;
+                    }
+                }
+                case VALUE_STRING -> {
+                    String text = parser.getText();
+                    if (text.contains(LIMIT_EXCEEDED_MARKER)) {
+                        throw new ApiLimitExceededException("API 호출 한도 초과");
+                    }
+                    if ("totalCount".equals(parser.currentName())) {
+                        totalCount = parseIntOrDefault(text);
+                    }
+                }
+                case VALUE_NUMBER_INT -> {
+                    if ("totalCount".equals(parser.currentName())) {
+                        totalCount = parser.getIntValue();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void handleItemToken(JsonToken token) throws IOException {
+            switch (token) {
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case START_OBJECT, START_ARRAY -> nested++;
+                case END_ARRAY -> nested--;
+                case END_OBJECT -> {
+                    if (nested > 0) {
+                        nested--;
+                    } else {
+                        completeItem();
+                    }
+                }
+                default -> {
+                    if (nested == 0 && token.isScalarValue()) {
+                        String text = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                        Integer index = FIELD_INDEX.get(fieldName);
+                        if (index != null) {
+                            values[index] = text;
+                        }
+                        if (raw != null) {
+                            raw.put(fieldName, token.isNumeric() ? parser.getNumberValue() : text);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void completeItem() {
+            String[] v = values;
+            values = null;
+
+            // 여행코스(25) 필터링
+            if ("25".equals(v[1])) {
+                log.debug("Skipping travel course data: contentId={}", v[0]);
+                skipped++;
+                return;
+            }
+
+            items.add(TourismRawData.builder()
+                    .contentId(text(v[0]))
+                    .contentTypeId(text(v[1]))
+                    .title(text(v[2]))
+                    .addr1(text(v[3]))
+                    .addr2(text(v[4]))
+                    .firstImage(text(v[5]))
+                    .firstImage2(text(v[6]))
+                    .mapX(text(v[7]))
+                    .mapY(text(v[8]))
+                    .areaCode(text(v[9]))
+                    .sigunguCode(text(v[10]))
+                    .cat1(text(v[11]))
+                    .cat2(text(v[12]))
+                    .cat3(text(v[13]))
+                    .createdTime(text(v[14]))
+                    .modifiedTime(text(v[15]))
+                    .tel(text(v[16]))
+                    .zipcode(text(v[17]))
+                    .overview(text(v[18]))
+                    .rawData(raw)
+                    .build());
+            raw = null;
+        }
+
+        // response.body.items.item (단일 객체 또는 배열 원소)
+        private static boolean isItemContext(JsonStreamContext ctx) {
+            JsonStreamContext parent = ctx.getParent();
+            if (parent != null && parent.inArray()) {
+                parent = parent.getParent();
+            }
+            if (parent == null || !"item".equals(parent.getCurrentName())) {
+                return false;
+            }
+            JsonStreamContext body = parent.getParent();
+            return body != null && "items".equals(body.getCurrentName());
+        }
+
+        private void appendNonJson(byte[] bytes) {
+            if (nonJsonBody == null) {
+                nonJsonBody = new StringBuilder();
+            }
+            if (nonJsonBody.length() < MAX_NON_JSON_BYTES) {
+                nonJsonBody.append(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        private static Boolean startsWithJson(byte[] bytes) {
+            for (byte b : bytes) {
+                if (!Character.isWhitespace(b)) {
+                    return b == '{' || b == '[';
+                }
+            }
+            return null;
+        }
+
+        private static String text(String value) {
+            return value == null ? "" : value;
+        }
+
+        private static int parseIntOrDefault(String value) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package yunrry.flik.batch.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 관광타입(contentTypeId)별 필드 스키마 (불변, 애플리케이션 시작 시 1회 생성)
+ * - 공통/도메인 상세 필드를 배열 인덱스로 관리 (detailIntro2 응답 키 fallback 포함)
+ * - 대상 fetched_* 테이블의 SQL 을 미리 만들어 두고 PreparedStatement 바인딩까지 담당
+ * - FieldMapper(응답 매핑)와 TourismDataRepositoryImpl(저장)이 같은 스키마를 사용
+ */
+public final class ContentTypeSchema {
+
+    private record BasicColumn(String name, Function<TourismRawData, String> getter) {
+    }
+
+    private record CommonField(String name, String[] apiKeys,
+                               Function<TourismRawData, String> getter,
+                               BiConsumer<TourismRawData, String> setter) {
+    }
+
+    private static final BasicColumn[] BASIC_COLUMNS = {
+            new BasicColumn("content_id", TourismRawData::getContentId),
+            new BasicColumn("content_type_id", TourismRawData::getContentTypeId),
+            new BasicColumn("content_type_name", TourismRawData::getContentTypeName),
+            new BasicColumn("title", TourismRawData::getTitle),
+            new BasicColumn("addr1", TourismRawData::getAddr1),
+            new BasicColumn("addr2", TourismRawData::getAddr2),
+            new BasicColumn("first_image", TourismRawData::getFirstImage),
+            new BasicColumn("first_image2", TourismRawData::getFirstImage2),
+            new BasicColumn("map_x", TourismRawData::getMapX),
+            new BasicColumn("map_y", TourismRawData::getMapY),
+            new BasicColumn("area_code", TourismRawData::getAreaCode),
+            new BasicColumn("sigungu_code", TourismRawData::getSigunguCode),
+            new BasicColumn("cat1", TourismRawData::getCat1),
+            new BasicColumn("cat2", TourismRawData::getCat2),
+            new BasicColumn("cat3", TourismRawData::getCat3),
+            new BasicColumn("created_time", TourismRawData::getCreatedTime),
+            new BasicColumn("modified_time", TourismRawData::getModifiedTime),
+            new BasicColumn("tel", TourismRawData::getTel),
+            new BasicColumn("zipcode", TourismRawData::getZipcode),
+            new BasicColumn("overview", TourismRawData::getOverview),
+            new BasicColumn("source", TourismRawData::getSource)
+    };
+
+    // 공통 컬럼 매핑 (Python 코드 참조) - 응답 키는 앞에서부터 우선
+    private static final CommonField[] COMMON_FIELDS = {
+            new CommonField("usetime",
+                    new String[]{"usetime", "usetimeculture", "usetimeleports", "opentime", "opentimefood"},
+                    TourismRawData::getUsetime, TourismRawData::setUsetime),
+            new CommonField("restdate",
+                    new String[]{"restdate", "restdateculture", "restdateleports", "restdateshopping", "restdatefood"},
+                    TourismRawData::getRestdate, TourismRawData::setRestdate),
+            new CommonField("parking",
+                    new String[]{"parking", "parkingculture", "parkingleports", "parkinglodging", "parkingshopping", "parkingfood"},
+                    TourismRawData::getParking, TourismRawData::setParking),
+            new CommonField("parkingfee",
+                    new String[]{"parkingfeeleports"},
+                    TourismRawData::getParkingfee, TourismRawData::setParkingfee),
+            new CommonField("infocenter",
+                    new String[]{"infocenter", "infocenterculture", "infocenterleports", "infocenterlodging", "infocentershopping", "infocenterfood"},
+                    TourismRawData::getInfocenter, TourismRawData::setInfocenter),
+            new CommonField("chkbabycarriage",
+                    new String[]{"chkbabycarriage", "chkbabycarriageculture", "chkbabycarriageleports", "chkbabycarriageshopping"},
+                    TourismRawData::getChkbabycarriage, TourismRawData::setChkbabycarriage),
+            new CommonField("chkpet",
+                    new String[]{"chkpet", "chkpetculture", "chkpetshopping"},
+                    TourismRawData::getChkpet, TourismRawData::setChkpet),
+            new CommonField("chkcreditcard",
+                    new String[]{"chkcreditcard", "chkcreditcardculture", "chkcreditcardleports", "chkcreditcardshopping", "chkcreditcardfood"},
+                    TourismRawData::getChkcreditcard, TourismRawData::setChkcreditcard)
+    };
+
+    private static final String[] LABEL_COLUMNS = {"label_depth1", "label_depth2", "label_depth3"};
+
+    private static final Map<String, ContentTypeSchema> SCHEMAS = Map.of(
+            "12", new ContentTypeSchema("12", "관광지", "fetched_tourist_attractions",
+                    "heritage1", "heritage2", "heritage3", "opendate",
+                    "expguide", "expagerange", "accomcount", "useseason"),
+            "14", new ContentTypeSchema("14", "문화시설", "fetched_cultural_facilities",
+                    "scale", "usefee", "discountinfo", "spendtime"),
+            "15", new ContentTypeSchema("15", "축제공연행사", "fetched_festivals_events",
+                    "sponsor1", "sponsor1tel", "sponsor2", "sponsor2tel",
+                    "eventenddate", "playtime", "eventplace", "eventhomepage",
+                    "agelimit", "bookingplace", "placeinfo", "subevent", "program",
+                    "eventstartdate", "usetimefestival", "discountinfofestival",
+                    "spendtimefestival", "festivalgrade", "progresstype", "festivaltype"),
+            "28", new ContentTypeSchema("28", "레포츠", "fetched_sports_recreation",
+                    "openperiod", "reservation", "scaleleports",
+                    "accomcountleports", "usefeeleports", "expagerangeleports"),
+            "32", new ContentTypeSchema("32", "숙박", "fetched_accommodations",
+                    "roomcount", "roomtype", "refundregulation", "checkintime", "checkouttime",
+                    "chkcooking", "seminar", "sports", "sauna", "beauty", "beverage", "karaoke",
+                    "barbecue", "campfire", "bicycle", "fitness", "publicpc", "publicbath",
+                    "subfacility", "foodplace", "reservationurl", "pickup", "reservationlodging",
+                    "scalelodging", "accomcountlodging"),
+            "38", new ContentTypeSchema("38", "쇼핑", "fetched_shopping",
+                    "saleitem", "saleitemcost", "fairday", "opendateshopping",
+                    "shopguide", "culturecenter", "restroom", "scaleshopping"),
+            "39", new ContentTypeSchema("39", "음식점", "fetched_restaurants",
+                    "seat", "kidsfacility", "firstmenu", "treatmenu", "smoking",
+                    "packing", "scalefood", "opendatefood", "discountinfofood",
+                    "reservationfood", "lcnsno")
+    );
+
+    private final String contentTypeId;
+    private final String contentTypeName;
+    private final String tableName;
+    private final String[] domainFields;
+
+    private final String insertSql;
+    private final String detailUpdateSql;
+    private final String labelUpdateSql;
+    private final String completeUpsertSql;
+
+    private ContentTypeSchema(String contentTypeId, String contentTypeName, String tableName, String... domainFields) {
+        this.contentTypeId = contentTypeId;
+        this.contentTypeName = contentTypeName;
+        this.tableName = tableName;
+        this.domainFields = domainFields;
+        this.insertSql = buildInsertSql();
+        this.detailUpdateSql = buildDetailUpdateSql();
+        this.labelUpdateSql = buildLabelUpdateSql();
+        this.completeUpsertSql = buildCompleteUpsertSql();
+    }
+
+    /** 지원하는 관광타입의 스키마 (없으면 IllegalArgumentException) */
+    public static ContentTypeSchema of(String contentTypeId) {
+        ContentTypeSchema schema = find(contentTypeId);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown content type: " + contentTypeId);
+        }
+        return schema;
+    }
+
+    /** 지원하지 않는 관광타입이면 null */
+    public static ContentTypeSchema find(String contentTypeId) {
+        return contentTypeId != null ? SCHEMAS.get(contentTypeId) : null;
+    }
+
+    /** 공통 상세 필드 매핑 (관광타입과 무관), detailIntro2 응답 item 노드에서 바로 읽음 */
+    public static void mapCommonFields(TourismRawData item, JsonNode detailItem) {
+        for (CommonField field : COMMON_FIELDS) {
+            String value = "";
+            for (String apiKey : field.apiKeys()) {
+                String raw = text(detailItem, apiKey);
+                if (raw != null) {
+                    value = raw;
+                    break;
+                }
+            }
+            field.setter().accept(item, value);
+        }
+    }
+
+    /** 도메인 특화 필드 매핑 (domainFields 순서의 배열로 저장) */
+    public void mapDomainFields(TourismRawData item, JsonNode detailItem) {
+        String[] values = new String[domainFields.length];
+        for (int i = 0; i < domainFields.length; i++) {
+            String raw = text(detailItem, domainFields[i]);
+            values[i] = raw != null ? raw : "";
+        }
+        item.setDomainValues(values);
+    }
+
+    // 키가 없거나 JSON null 이면 null
+    private static String text(JsonNode node, String key) {
+        JsonNode value = node.get(key);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    public String getContentTypeId() {
+        return contentTypeId;
+    }
+
+    public String getContentTypeName() {
+        return contentTypeName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getDomainFieldNames() {
+        return List.of(domainFields);
+    }
+
+    public String getInsertSql() {
+        return insertSql;
+    }
+
+    public String getDetailUpdateSql() {
+        return detailUpdateSql;
+    }
+
+    public String getLabelUpdateSql() {
+        return labelUpdateSql;
+    }
+
+    public String getCompleteUpsertSql() {
+        return completeUpsertSql;
+    }
+
+    /** insertSql 파라미터 바인딩 */
+    public void bindInsert(PreparedStatement ps, TourismRawData data) throws SQLException {
+        bindBasic(ps, data);
+    }
+
+    /** detailUpdateSql 파라미터 바인딩 */
+    public void bindDetailUpdate(PreparedStatement ps, TourismRawData data) throws SQLException {
+        int index = bindDetail(ps, data, 1);
+        // WHERE 조건
+        ps.setString(index, data.getContentId());
+    }
+
+    /** labelUpdateSql 파라미터 바인딩 */
+    public void bindLabelUpdate(PreparedStatement ps, TourismRawData data) throws SQLException {
+        int index = bindLabel(ps, data, 1);
+        ps.setString(index++, data.getOverview());
+        ps.setString(index++, data.getCat1());
+        ps.setString(index++, data.getCat2());
+        ps.setString(index++, data.getCat3());
+        ps.setString(index, data.getContentId());
+    }
+
+    /** completeUpsertSql 파라미터 바인딩 */
+    public void bindComplete(PreparedStatement ps, TourismRawData data) throws SQLException {
+        int index = bindBasic(ps, data);
+        index = bindDetail(ps, data, index);
+        bindLabel(ps, data, index);
+    }
+
+    private int bindBasic(PreparedStatement ps, TourismRawData data) throws SQLException {
+        int index = 1;
+        for (BasicColumn column : BASIC_COLUMNS) {
+            ps.setString(index++, column.getter().apply(data));
+        }
+        return index;
+    }
+
+    // 공통 상세 + 도메인 특화 필드, 다음 파라미터 위치 반환
+    private int bindDetail(PreparedStatement ps, TourismRawData data, int index) throws SQLException {
+        for (CommonField field : COMMON_FIELDS) {
+            ps.setString(index++, field.getter().apply(data));
+        }
+
+        String[] values = data.getDomainValues();
+        for (int i = 0; i < domainFields.length; i++) {
+            String value = values != null && i < values.length ? values[i] : null;
+            ps.setString(index++, value != null ? value : "");
+        }
+        return index;
+    }
+
+    private int bindLabel(PreparedStatement ps, TourismRawData data, int index) throws SQLException {
+        ps.setString(index++, data.getLabelDepth1());
+        ps.setString(index++, data.getLabelDepth2());
+        ps.setString(index++, data.getLabelDepth3());
+        return index;
+    }
+
+    private String buildInsertSql() {
+        List<String> columns = basicColumnNames();
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + placeholders(columns.size()) + ") ON DUPLICATE KEY UPDATE "
+                + "title = VALUES(title), addr1 = VALUES(addr1), first_image = VALUES(first_image), "
+                + "modified_time = VALUES(modified_time), updated_at = CURRENT_TIMESTAMP";
+    }
+
+    private String buildDetailUpdateSql() {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (String column : detailColumnNames()) {
+            sql.append(column).append(" = ?, ");
+        }
+        return sql.append("updated_at = CURRENT_TIMESTAMP WHERE content_id = ?").toString();
+    }
+
+    private String buildLabelUpdateSql() {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (String column : LABEL_COLUMNS) {
+            sql.append(column).append(" = ?, ");
+        }
+        return sql.append("overview = ?, cat1 = ?, cat2 = ?, cat3 = ?, updated_at = CURRENT_TIMESTAMP WHERE content_id = ?")
+                .toString();
+    }
+
+    // 기본 INSERT 의 갱신 대상 + 상세/도메인/라벨 UPDATE 대상을 한 문장으로
+    private String buildCompleteUpsertSql() {
+        List<String> columns = basicColumnNames();
+        columns.addAll(detailColumnNames());
+        Collections.addAll(columns, LABEL_COLUMNS);
+
+        List<String> updates = new ArrayList<>(List.of("title", "addr1", "first_image", "modified_time"));
+        updates.addAll(detailColumnNames());
+        Collections.addAll(updates, LABEL_COLUMNS);
+        updates.addAll(List.of("overview", "cat1", "cat2", "cat3"));
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+                .append(placeholders(columns.size()))
+                .append(") ON DUPLICATE KEY UPDATE ");
+        for (String column : updates) {
+            sql.append(column).append(" = VALUES(").append(column).append("), ");
+        }
+        return sql.append("updated_at = CURRENT_TIMESTAMP").toString();
+    }
+
+    private static List<String> basicColumnNames() {
+        List<String> names = new ArrayList<>();
+        for (BasicColumn column : BASIC_COLUMNS) {
+            names.add(column.name());
+        }
+        return names;
+    }
+
+    private List<String> detailColumnNames() {
+        List<String> names = new ArrayList<>();
+        for (CommonField field : COMMON_FIELDS) {
+            names.add(field.name());
+        }
+        Collections.addAll(names, domainFields);
+        return names;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,5 +1,10 @@
 package yunrry.flik.batch.migration.enums;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum DetailCategory {
 
     // 레저스포츠 - 육상레저스포츠 LS01
@@ -340,6 +345,9 @@ public enum DetailCategory {
 
     private final String koreanName;
 
+    private static final Map<String, DetailCategory> KOREAN_NAME_MAP =
+            Arrays.stream(values()).collect(Collectors.toMap(DetailCategory::getKoreanName, Function.identity()));
+
     DetailCategory(String koreanName) {
         this.koreanName = koreanName;
     }
@@ -352,11 +360,6 @@ public enum DetailCategory {
      * 한국어 이름으로 DetailCategory 찾기
      */
     public static DetailCategory findByKoreanName(String koreanName) {
-        for (DetailCategory category : values()) {
-            if (category.getKoreanName().equals(koreanName)) {
-                return category;
-            }
-        }
-        return null;
+        return koreanName != null ? KOREAN_NAME_MAP.get(koreanName) : null;
     }
 }
\ No newline at end of file
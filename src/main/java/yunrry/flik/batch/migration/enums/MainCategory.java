@@ -1,5 +1,10 @@
 package yunrry.flik.batch.migration.enums;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum MainCategory {
 
     NATURE("nature", "자연"),
@@ -16,6 +21,11 @@ public enum MainCategory {
     private final String code;
     private final String displayName;
 
+    private static final Map<String, MainCategory> CODE_MAP =
+            Arrays.stream(values()).collect(Collectors.toMap(MainCategory::getCode, Function.identity()));
+    private static final Map<String, MainCategory> DISPLAY_NAME_MAP =
+            Arrays.stream(values()).collect(Collectors.toMap(MainCategory::getDisplayName, Function.identity()));
+
     MainCategory(String code, String displayName) {
         this.code = code;
         this.displayName = displayName;
@@ -33,21 +43,11 @@ public enum MainCategory {
      * 코드로 카테고리 찾기
      */
     public static MainCategory findByCode(String code) {
-        for (MainCategory category : values()) {
-            if (category.getCode().equals(code)) {
-                return category;
-            }
-        }
-        return null;
+        return code != null ? CODE_MAP.get(code) : null;
     }
 
     public static MainCategory findByDisplayName(String displayName) {
-        for (MainCategory category : values()) {
-            if (category.getDisplayName().equals(displayName)) {
-                return category;
-            }
-        }
-        return null;
+        return displayName != null ? DISPLAY_NAME_MAP.get(displayName) : null;
     }
 
     public static MainCategory of(String displayName) {
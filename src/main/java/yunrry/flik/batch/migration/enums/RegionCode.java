@@ -42,6 +42,11 @@ public enum RegionCode {
         return region != null ? region.regnCd : "00";
     }
 
+    /** area_code 에 해당하는 시도 (없으면 null) */
+    public static RegionCode findByAreaCode(String areaCode) {
+        return areaCode != null ? AREA_CODE_MAP.get(areaCode) : null;
+    }
+
     public String getAreaCode() { return areaCode; }
     public String getRegnCd() { return regnCd; }
     public String getName() { return name; }
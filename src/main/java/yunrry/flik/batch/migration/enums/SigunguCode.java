@@ -270,45 +270,21 @@ public enum SigunguCode {
 
     private final String name;
     private final String code;
+    private final RegionCode region;
 
     SigunguCode(String name, String code) {
         this.name = name;
         this.code = code;
+        // 상수명 접두어(SEOUL_, GYEONGNAM_ ...)가 소속 시도
+        this.region = RegionCode.valueOf(name().substring(0, name().indexOf('_')));
     }
 
+    /** 주소 -> 시군구 코드 (시도명으로 지역을 먼저 정한 뒤 그 지역 시군구만 매칭) */
     public static String parseAddressToCode(String addr1) {
-        if (addr1 == null || addr1.isEmpty()) {
-            return "110";
-        }
-
-        String addrClean = addr1.replace("서울특별시", "").replace("서울", "")
-                .replace("부산광역시", "").replace("부산", "")
-                .replace("대구광역시", "").replace("대구", "")
-                .replace("인천광역시", "").replace("인천", "")
-                .replace("광주광역시", "").replace("광주", "")
-                .replace("대전광역시", "").replace("대전", "")
-                .replace("울산광역시", "").replace("울산", "")
-                .replace("세종특별자치시", "").replace("세종", "")
-                .replace("경기도", "").replace("강원도", "")
-                .replace("충청북도", "").replace("충북", "")
-                .replace("충청남도", "").replace("충남", "")
-                .replace("전라북도", "").replace("전북", "")
-                .replace("전라남도", "").replace("전남", "")
-                .replace("경상북도", "").replace("경북", "")
-                .replace("경상남도", "").replace("경남", "")
-                .replace("제주특별자치도", "").replace("제주", "")
-                .trim();
-
-        // 지역별 우선순위로 검색 (서울 -> 부산 -> 대구 등 순서)
-        for (SigunguCode sigungu : values()) {
-            if (addrClean.contains(sigungu.name)) {
-                return sigungu.code;
-            }
-        }
-
-        return "110"; // 기본값: 종로구
+        return SigunguCodeResolver.resolve(addr1, null);
     }
 
     public String getName() { return name; }
     public String getCode() { return code; }
+    public RegionCode getRegion() { return region; }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package yunrry.flik.batch.migration.enums;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+/**
+ * 주소(addr1) -> 시군구 코드 해석기
+ * - 주소 맨 앞의 시도명(정식/약칭)을 트라이로 찾아 지역을 정한 뒤, 그 지역 시군구명만 담은 Aho-Corasick 오토마톤으로 주소를 한 번 훑음
+ * - 시도명이 없거나 그 지역에서 못 찾으면 area_code 지역, 그래도 없으면 전체 시군구명(enum 순서 우선)으로 매칭
+ * - 가장 먼저 끝나는 이름을 채택하고, 같은 위치에서 끝나는 이름이 여럿이면 긴 이름 우선 (남동구 vs 동구)
+ * - 오토마톤은 클래스 로딩 시 한 번만 생성
+ */
+public final class SigunguCodeResolver {
+
+    public static final String DEFAULT_CODE = "110"; // 기본값: 종로구
+
+    private static final Automaton<RegionCode> PROVINCES = new Automaton<>(provinceNames());
+
+    private static final Map<RegionCode, List<SigunguCode>> SIGUNGU_BY_REGION = Arrays.stream(SigunguCode.values())
+            .collect(Collectors.groupingBy(SigunguCode::getRegion, () -> new EnumMap<>(RegionCode.class), Collectors.toList()));
+
+    private static final Map<RegionCode, Automaton<SigunguCode>> SIGUNGU_AUTOMATA = SIGUNGU_BY_REGION.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> new Automaton<>(byName(entry.getValue())),
+                    (a, b) -> a, () -> new EnumMap<>(RegionCode.class)));
+
+    // 여러 지역에 같은 이름(중구, 고성군 ...)이 있으면 enum 순서상 앞선 것
+    private static final Automaton<SigunguCode> ALL_SIGUNGU = new Automaton<>(byName(List.of(SigunguCode.values())));
+
+    private SigunguCodeResolver() {
+    }
+
+    /** areaCode 는 주소에 시도명이 없을 때 지역을 정하는 보조 정보 (null 가능) */
+    public static String resolve(String addr1, String areaCode) {
+        SigunguCode sigungu = find(addr1, areaCode);
+        return sigungu != null ? sigungu.getCode() : DEFAULT_CODE;
+    }
+
+    // 코드만으로는 지역을 구분할 수 없어(강원/경남 고성군 모두 820) 테스트에서는 시군구 자체를 확인
+    static SigunguCode find(String addr1, String areaCode) {
+        if (addr1 == null || addr1.isBlank()) {
+            return null;
+        }
+
+        int start = skipWhitespace(addr1, 0);
+        Match<RegionCode> province = PROVINCES.longestPrefix(addr1, start);
+        if (province != null) {
+            SigunguCode sigungu = findInRegion(province.value(), addr1, province.end());
+            if (sigungu != null) {
+                return sigungu;
+            }
+        }
+
+        RegionCode region = RegionCode.findByAreaCode(areaCode);
+        if (region != null && (province == null || region != province.value())) {
+            SigunguCode sigungu = findInRegion(region, addr1, start);
+            if (sigungu != null) {
+                return sigungu;
+            }
+        }
+
+        return ALL_SIGUNGU.findFirst(addr1, start);
+    }
+
+    private static SigunguCode findInRegion(RegionCode region, String addr1, int from) {
+        List<SigunguCode> candidates = SIGUNGU_BY_REGION.get(region);
+        if (candidates == null) {
+            return null;
+        }
+        // 시군구가 하나뿐인 지역(세종)은 시도만 맞으면 확정
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        return SIGUNGU_AUTOMATA.get(region).findFirst(addr1, from);
+    }
+
+    private static Map<String, RegionCode> provinceNames() {
+        Map<String, RegionCode> names = new HashMap<>();
+        put(names, RegionCode.SEOUL, "서울특별시", "서울시", "서울");
+        put(names, RegionCode.BUSAN, "부산광역시", "부산시", "부산");
+        put(names, RegionCode.DAEGU, "대구광역시", "대구시", "대구");
+        put(names, RegionCode.INCHEON, "인천광역시", "인천시", "인천");
+        // "광주시"는 경기도 광주시와 겹치므로 약칭에서 제외
+        put(names, RegionCode.GWANGJU, "광주광역시", "광주");
+        put(names, RegionCode.DAEJEON, "대전광역시", "대전시", "대전");
+        put(names, RegionCode.ULSAN, "울산광역시", "울산시", "울산");
+        put(names, RegionCode.SEJONG, "세종특별자치시", "세종시", "세종");
+        put(names, RegionCode.GYEONGGI, "경기도", "경기");
+        put(names, RegionCode.GANGWON, "강원특별자치도", "강원도", "강원");
+        put(names, RegionCode.CHUNGBUK, "충청북도", "충북");
+        put(names, RegionCode.CHUNGNAM, "충청남도", "충남");
+        put(names, RegionCode.JEONBUK, "전북특별자치도", "전라북도", "전북");
+        put(names, RegionCode.JEONNAM, "전라남도", "전남");
+        put(names, RegionCode.GYEONGBUK, "경상북도", "경북");
+        put(names, RegionCode.GYEONGNAM, "경상남도", "경남");
+        put(names, RegionCode.JEJU, "제주특별자치도", "제주도", "제주");
+        return names;
+    }
+
+    private static void put(Map<String, RegionCode> names, RegionCode region, String... aliases) {
+        for (String alias : aliases) {
+            names.put(alias, region);
+        }
+    }
+
+    private static Map<String, SigunguCode> byName(List<SigunguCode> sigungus) {
+        Map<String, SigunguCode> names = new LinkedHashMap<>();
+        sigungus.forEach(sigungu -> names.putIfAbsent(sigungu.getName(), sigungu));
+        return names;
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Match<V>(V value, int end) {
+    }
+
+    /** 문자 단위 트라이 + 실패 링크 (Aho-Corasick) */
+    private static final class Automaton<V> {
+
+        private final Node<V> root = new Node<>();
+
+        private Automaton(Map<String, V> patterns) {
+            patterns.forEach((pattern, value) -> {
+                Node<V> node = root;
+                for (int i = 0; i < pattern.length(); i++) {
+                    node = node.next.computeIfAbsent(pattern.charAt(i), c -> new Node<>());
+                }
+                node.value = value;
+            });
+            linkFailures();
+        }
+
+        // BFS 로 실패 링크 연결, 각 노드의 출력은 자기 패턴이 없으면 실패 링크의 출력(더 짧은 접미사)
+        private void linkFailures() {
+            Queue<Node<V>> queue = new ArrayDeque<>();
+            root.fail = root;
+            for (Node<V> child : root.next.values()) {
+                child.fail = root;
+                child.output = child.value;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node<V> node = queue.poll();
+                node.next.forEach((c, child) -> {
+                    Node<V> fail = node.fail;
+                    while (fail != root && !fail.next.containsKey(c)) {
+                        fail = fail.fail;
+                    }
+                    Node<V> target = fail.next.get(c);
+                    child.fail = target != null ? target : root;
+                    child.output = child.value != null ? child.value : child.fail.output;
+                    queue.add(child);
+                });
+            }
+        }
+
+        /** from 이후 가장 먼저 끝나는 패턴 (같은 위치면 가장 긴 패턴) */
+        private V findFirst(String text, int from) {
+            Node<V> state = root;
+            for (int i = from; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (state != root && !state.next.containsKey(c)) {
+                    state = state.fail;
+                }
+                state = state.next.getOrDefault(c, root);
+                if (state.output != null) {
+                    return state.output;
+                }
+            }
+            return null;
+        }
+
+        /** from 에서 시작해 공백/문자열 끝에서 끝나는 가장 긴 패턴 ("제주시"의 "제주"는 시도로 보지 않음) */
+        private Match<V> longestPrefix(String text, int from) {
+            Node<V> node = root;
+            Match<V> match = null;
+            for (int i = from; i < text.length(); i++) {
+                node = node.next.get(text.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                int end = i + 1;
+                if (node.value != null && (end == text.length() || Character.isWhitespace(text.charAt(end)))) {
+                    match = new Match<>(node.value, end);
+                }
+            }
+            return match;
+        }
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> next = new HashMap<>();
+        private Node<V> fail;
+        private V value;
+        private V output;
+    }
+}
@@ -1,5 +1,10 @@
 package yunrry.flik.batch.migration.enums;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum SubCategory {
     // 51개
     // NATURE
@@ -77,6 +82,11 @@ public enum SubCategory {
     private final String code;
     private final String koreanName;
 
+    private static final Map<String, SubCategory> KOREAN_NAME_MAP =
+            Arrays.stream(values()).collect(Collectors.toMap(SubCategory::getKoreanName, Function.identity()));
+    private static final Map<String, SubCategory> CODE_MAP =
+            Arrays.stream(values()).collect(Collectors.toMap(SubCategory::getCode, Function.identity()));
+
     SubCategory(String code, String koreanName) {
         this.code = code;
         this.koreanName = koreanName;
@@ -94,29 +104,15 @@ public enum SubCategory {
      * 한국어 이름으로 SubCategory 찾기
      */
     public static SubCategory findByKoreanName(String koreanName) {
-        for (SubCategory category : values()) {
-            if (category.getKoreanName().equals(koreanName)) {
-                return category;
-            }
-        }
-        return null;
+        return koreanName != null ? KOREAN_NAME_MAP.get(koreanName) : null;
     }
 
     public static SubCategory findByCode(String code) {
-        for (SubCategory category : values()) {
-            if (category.getCode().equals(code)) {
-                return category;
-            }
-        }
-        return null;
+        return code != null ? CODE_MAP.get(code) : null;
     }
 
     public static String findKoreanNameByCode(String code) {
-        for (SubCategory category : values()) {
-            if (category.getCode().equals(code)) {
-                return category.getKoreanName();
-            }
-        }
-        return null;
+        SubCategory category = findByCode(code);
+        return category != null ? category.getKoreanName() : null;
     }
 }
\ No newline at end of file
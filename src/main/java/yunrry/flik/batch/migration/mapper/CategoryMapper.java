@@ -1,13 +1,20 @@
 package yunrry.flik.batch.migration.mapper;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import yunrry.flik.batch.migration.enums.DetailCategory;
 import yunrry.flik.batch.migration.enums.MainCategory;
 import yunrry.flik.batch.migration.enums.SubCategory;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 대분류(MainCategory) - 중분류(SubCategory) - 소분류(DetailCategory) 매핑
+ * 역방향(소분류 -> 중분류 -> 대분류)과 대분류별 중분류명 목록은 클래스 로딩 시 EnumMap 으로 미리 계산해 행 단위 조회를 O(1) 로 처리
+ */
+@Slf4j
 @Service
 public class CategoryMapper {
 
@@ -533,6 +540,24 @@ public class CategoryMapper {
             ))
     );
 
+    private static final Map<DetailCategory, SubCategory> DETAIL_TO_SUB = invert(SUB_DETAIL_MAPPING, DetailCategory.class);
+    private static final Map<SubCategory, MainCategory> SUB_TO_MAIN = invert(CATEGORY_MAPPING, SubCategory.class);
+    private static final Map<MainCategory, List<String>> SUB_CATEGORY_NAMES = subCategoryNames();
+
+    // 상위 -> 하위 목록 매핑을 하위 -> 상위 EnumMap 으로 뒤집음 (하위가 여러 상위에 있으면 처음 것)
+    private static <P, C extends Enum<C>> Map<C, P> invert(Map<P, List<C>> mapping, Class<C> childType) {
+        Map<C, P> inverted = new EnumMap<>(childType);
+        mapping.forEach((parent, children) -> children.forEach(child -> inverted.putIfAbsent(child, parent)));
+        return inverted;
+    }
+
+    private static Map<MainCategory, List<String>> subCategoryNames() {
+        Map<MainCategory, List<String>> names = new EnumMap<>(MainCategory.class);
+        CATEGORY_MAPPING.forEach((mainCategory, subCategories) -> names.put(mainCategory,
+                subCategories.stream().map(SubCategory::getKoreanName).toList()));
+        return names;
+    }
+
 
     /**
      * SubCategory에 해당하는 DetailCategory 목록 조회
@@ -545,20 +570,26 @@ public class CategoryMapper {
      * DetailCategory가 속한 SubCategory 찾기
      */
     public static SubCategory getSubCategory(DetailCategory detailCategory) {
-        return SUB_DETAIL_MAPPING.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(detailCategory))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        return detailCategory != null ? DETAIL_TO_SUB.get(detailCategory) : null;
     }
 
 
     public static MainCategory getMainCategory(SubCategory subCategory) {
-        return CATEGORY_MAPPING.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(subCategory))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        return subCategory != null ? SUB_TO_MAIN.get(subCategory) : null;
+    }
+
+    /**
+     * 중분류 한국어명(label_depth2) -> MainCategory
+     */
+    public static MainCategory findMainCategoryBySubCategoryName(String subCategoryName) {
+        return getMainCategory(SubCategory.findByKoreanName(subCategoryName));
+    }
+
+    /**
+     * 소분류 한국어명(label_depth3) -> MainCategory
+     */
+    public static MainCategory findMainCategoryByDetailCategoryName(String detailCategoryName) {
+        return getMainCategory(getSubCategory(DetailCategory.findByKoreanName(detailCategoryName)));
     }
 
     /**
@@ -579,7 +610,8 @@ public class CategoryMapper {
      * 카테고리에 해당하는 SubCategory 목록 반환
      */
     public List<SubCategory> getSubCategories(String category) {
-        return CATEGORY_MAPPING.getOrDefault(category, List.of());
+        MainCategory mainCategory = MainCategory.findByCode(category);
+        return mainCategory != null ? CATEGORY_MAPPING.getOrDefault(mainCategory, List.of()) : List.of();
     }
 
     /**
@@ -590,17 +622,11 @@ public class CategoryMapper {
         MainCategory mainCategory = MainCategory.findByCode(category);
 
         if (mainCategory == null) {
-            System.out.println("Invalid category code: " + category);
+            log.debug("Invalid category code: {}", category);
             return List.of();
         }
 
-        List<String> result = CATEGORY_MAPPING.getOrDefault(mainCategory, List.of())
-                .stream()
-                .map(SubCategory::getKoreanName)
-                .toList();
-
-        System.out.println("Category: " + category + " -> MainCategory: " + mainCategory + " -> SubCategories: " + result);
-        return result;
+        return getSubCategoryNames(mainCategory);
     }
 
     /**
@@ -615,10 +641,7 @@ public class CategoryMapper {
      * MainCategory enum으로 직접 조회하는 메서드 추가
      */
     public List<String> getSubCategoryNames(MainCategory mainCategory) {
-        return CATEGORY_MAPPING.getOrDefault(mainCategory, List.of())
-                .stream()
-                .map(SubCategory::getKoreanName)
-                .toList();
+        return mainCategory != null ? SUB_CATEGORY_NAMES.getOrDefault(mainCategory, List.of()) : List.of();
     }
 
 
@@ -0,0 +1,11 @@
+package yunrry.flik.batch.migration.mapping;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 원본 ResultSet 현재 행의 값을 읽어 spots INSERT 파라미터 하나에 바인딩
+@FunctionalInterface
+public interface ColumnBinder {
+    void bind(ResultSet rs, PreparedStatement ps) throws SQLException;
+}
@@ -0,0 +1,73 @@
+package yunrry.flik.batch.migration.mapping;
+
+import java.sql.Types;
+
+/**
+ * spots 테이블 적재 컬럼 (INSERT 파라미터 순서)
+ * 매핑에 없는 컬럼은 unmappedValue 로 채움 (관광타입 전용 텍스트 컬럼은 빈 문자열, 나머지는 null)
+ */
+public enum SpotColumn {
+    SPOT_TYPE("spot_type", Types.VARCHAR, null),
+    ADDRESS("address", Types.VARCHAR, null),
+    BABY_CARRIAGE("baby_carriage", Types.VARCHAR, null),
+    CATEGORY("category", Types.VARCHAR, null),
+    CLOSE_TIME("close_time", Types.VARCHAR, null),
+    CONTENT_TYPE_ID("content_type_id", Types.VARCHAR, null),
+    CONTENT_ID("content_id", Types.VARCHAR, null),
+    DAY_OFF("day_off", Types.VARCHAR, null),
+    DESCRIPTION("description", Types.VARCHAR, null),
+    GOOGLE_PLACE_ID("google_place_id", Types.VARCHAR, null),
+    IMAGE_URLS("image_urls", Types.VARCHAR, null),
+    INFO("info", Types.VARCHAR, null),
+    LATITUDE("latitude", Types.DOUBLE, null),
+    LONGITUDE("longitude", Types.DOUBLE, null),
+    NAME("name", Types.VARCHAR, null),
+    OPEN_TIME("open_time", Types.VARCHAR, null),
+    PARKING("parking", Types.VARCHAR, null),
+    PET_CARRIAGE("pet_carriage", Types.VARCHAR, null),
+    RATING("rating", Types.DECIMAL, null),
+    REGN_CD("regn_cd", Types.VARCHAR, null),
+    REVIEW_COUNT("review_count", Types.INTEGER, null),
+    SIGNGU_CD("signgu_cd", Types.VARCHAR, null),
+    TAG1("tag1", Types.VARCHAR, null),
+    TAG2("tag2", Types.VARCHAR, null),
+    TAG3("tag3", Types.VARCHAR, null),
+    TAGS("tags", Types.VARCHAR, null),
+    LABEL_DEPTH1("label_depth1", Types.VARCHAR, null),
+    LABEL_DEPTH2("label_depth2", Types.VARCHAR, null),
+    LABEL_DEPTH3("label_depth3", Types.VARCHAR, null),
+    CHECK_IN_TIME("check_in_time", Types.VARCHAR, ""),
+    CHECK_OUT_TIME("check_out_time", Types.VARCHAR, ""),
+    COOKING("cooking", Types.INTEGER, null),
+    FACILITIES("facilities", Types.VARCHAR, ""),
+    CUISINE_TYPE("cuisine_type", Types.VARCHAR, ""),
+    FEE("fee", Types.VARCHAR, ""),
+    AGE_LIMIT("age_limit", Types.VARCHAR, ""),
+    EVENT_END_DATE("event_end_date", Types.VARCHAR, ""),
+    EVENT_START_DATE("event_start_date", Types.VARCHAR, ""),
+    RUNNING_TIME("running_time", Types.VARCHAR, ""),
+    SPONSOR("sponsor", Types.VARCHAR, ""),
+    FIRST_MENU("first_menu", Types.VARCHAR, ""),
+    KIDS_FACILITY("kids_facility", Types.VARCHAR, ""),
+    PRICE_RANGE("price_range", Types.VARCHAR, ""),
+    RESERVATION("reservation", Types.VARCHAR, ""),
+    TAKE_AWAY("take_away", Types.VARCHAR, ""),
+    TREAT_MENU("treat_menu", Types.VARCHAR, ""),
+    PRODUCTS("products", Types.VARCHAR, ""),
+    EXP_GUIDE("exp_guide", Types.VARCHAR, ""),
+    TIME("time", Types.VARCHAR, "");
+
+    private final String columnName;
+    private final int sqlType;
+    private final String unmappedValue;
+
+    SpotColumn(String columnName, int sqlType, String unmappedValue) {
+        this.columnName = columnName;
+        this.sqlType = sqlType;
+        this.unmappedValue = unmappedValue;
+    }
+
+    public String getColumnName() { return columnName; }
+    public int getSqlType() { return sqlType; }
+    public String getUnmappedValue() { return unmappedValue; }
+}
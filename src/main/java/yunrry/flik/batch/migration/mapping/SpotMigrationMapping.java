@@ -0,0 +1,181 @@
+package yunrry.flik.batch.migration.mapping;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * fetched_* -> spots 선언형 매핑 (대상 컬럼, 원본 컬럼, 변환)
+ * - 조회 쿼리는 매핑에 쓰인 원본 컬럼만 SELECT (증분 조회는 updated_at 을 마지막 컬럼으로 추가)
+ * - 전체 이관은 INSERT IGNORE, 증분 이관은 content_id 기준으로 매핑된 컬럼만 갱신하는 upsert
+ * - compile() 은 조회 결과 메타데이터로 컬럼 위치/타입을 한 번 해석해 spots 컬럼 순서대로 ColumnBinder 배열을 만듦
+ */
+public final class SpotMigrationMapping {
+
+    // 라벨/주소/개요가 모두 있는 행만 이관
+    private static final String BASE_CONDITION = """
+            label_depth1 IS NOT NULL
+            AND label_depth1 != ''
+            AND addr1 IS NOT NULL
+            AND addr1 != ''
+            AND overview IS NOT NULL
+            AND overview != ''""";
+
+    private static final String INSERT_COLUMNS = Arrays.stream(SpotColumn.values())
+            .map(SpotColumn::getColumnName)
+            .collect(Collectors.joining(", "));
+    private static final String INSERT_VALUES = String.join(", ",
+            Collections.nCopies(SpotColumn.values().length, "?"));
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO spots (" + INSERT_COLUMNS + ") VALUES (" + INSERT_VALUES + ")";
+
+    private final String sourceTable;
+    private final String label;
+    private final Map<SpotColumn, Entry> entries;
+    private final List<String> sourceColumns;
+    private final String selectSql;
+    private final String incrementalSelectSql;
+    private final String upsertSql;
+
+    private SpotMigrationMapping(String sourceTable, String label, Map<SpotColumn, Entry> entries,
+                                 List<String> conditions) {
+        this.sourceTable = sourceTable;
+        this.label = label;
+        this.entries = entries;
+        this.sourceColumns = entries.values().stream()
+                .flatMap(entry -> Arrays.stream(entry.sources()))
+                .distinct()
+                .toList();
+
+        String columns = String.join(", ", sourceColumns);
+        StringBuilder where = new StringBuilder(BASE_CONDITION);
+        conditions.forEach(condition -> where.append("\nAND ").append(condition));
+
+        this.selectSql = "SELECT " + columns
+                + "\nFROM " + sourceTable
+                + "\nWHERE " + where
+                + "\nORDER BY id";
+        // updated_at 인덱스를 타도록 updated_at 조건/정렬 사용, 같은 초에 갱신된 행은 다음 실행에서 한 번 더 읽어도 upsert 라 무방
+        this.incrementalSelectSql = "SELECT " + columns + ", updated_at"
+                + "\nFROM " + sourceTable
+                + "\nWHERE updated_at >= ?"
+                + "\nAND " + where
+                + "\nORDER BY updated_at, id";
+        this.upsertSql = "INSERT INTO spots (" + INSERT_COLUMNS + ") VALUES (" + INSERT_VALUES + ")"
+                + " ON DUPLICATE KEY UPDATE " + entries.keySet().stream()
+                .filter(column -> column != SpotColumn.CONTENT_ID)
+                .map(column -> column.getColumnName() + " = VALUES(" + column.getColumnName() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    public static Builder from(String sourceTable, String label) {
+        return new Builder(sourceTable, label);
+    }
+
+    public String getSourceTable() { return sourceTable; }
+    public String getLabel() { return label; }
+    public String getSelectSql() { return selectSql; }
+    public String getIncrementalSelectSql() { return incrementalSelectSql; }
+    public String getInsertIgnoreSql() { return INSERT_IGNORE_SQL; }
+    public String getUpsertSql() { return upsertSql; }
+
+    /** 증분 조회 결과에서 updated_at 컬럼 위치 */
+    public int getUpdatedAtIndex() {
+        return sourceColumns.size() + 1;
+    }
+
+    /** spots 컬럼 순서(INSERT 파라미터 1..n)대로 바인더 생성, 매핑하지 않은 컬럼은 기본값 */
+    public ColumnBinder[] compile(ResultSetMetaData meta) throws SQLException {
+        SpotColumn[] columns = SpotColumn.values();
+        ColumnBinder[] binders = new ColumnBinder[columns.length];
+        for (SpotColumn column : columns) {
+            int parameterIndex = column.ordinal() + 1;
+            Entry entry = entries.get(column);
+            if (entry == null) {
+                binders[column.ordinal()] = SpotTransforms.constant(column.getUnmappedValue())
+                        .compile(meta, new int[0], parameterIndex, column.getSqlType());
+                continue;
+            }
+            int[] sourceIndexes = Arrays.stream(entry.sources())
+                    .mapToInt(source -> sourceColumns.indexOf(source) + 1)
+                    .toArray();
+            binders[column.ordinal()] = entry.transform()
+                    .compile(meta, sourceIndexes, parameterIndex, column.getSqlType());
+        }
+        return binders;
+    }
+
+    private record Entry(SpotValueTransform transform, String[] sources) {
+    }
+
+    public static final class Builder {
+        private final String sourceTable;
+        private final String label;
+        private final Map<SpotColumn, Entry> entries = new EnumMap<>(SpotColumn.class);
+        private final List<String> conditions = new ArrayList<>();
+
+        private Builder(String sourceTable, String label) {
+            this.sourceTable = sourceTable;
+            this.label = label;
+        }
+
+        /** 모든 관광타입에 공통인 기본정보 컬럼 */
+        public Builder commonColumns() {
+            return text(SpotColumn.ADDRESS, "addr1")
+                    .text(SpotColumn.BABY_CARRIAGE, "chkbabycarriage")
+                    .text(SpotColumn.CONTENT_ID, "content_id")
+                    .text(SpotColumn.DAY_OFF, "restdate")
+                    .text(SpotColumn.DESCRIPTION, "overview")
+                    .map(SpotColumn.IMAGE_URLS, SpotTransforms.jsonArray(), "first_image", "first_image2")
+                    .text(SpotColumn.INFO, "infocenter")
+                    .map(SpotColumn.LATITUDE, SpotTransforms.toDouble(), "map_y")
+                    .map(SpotColumn.LONGITUDE, SpotTransforms.toDouble(), "map_x")
+                    .text(SpotColumn.NAME, "title")
+                    .text(SpotColumn.PARKING, "parking")
+                    .text(SpotColumn.PET_CARRIAGE, "chkpet")
+                    .map(SpotColumn.REGN_CD, SpotTransforms.regionCode(), "area_code")
+                    .map(SpotColumn.SIGNGU_CD, SpotTransforms.sigunguCode(), "addr1", "area_code")
+                    .text(SpotColumn.LABEL_DEPTH1, "label_depth1")
+                    .text(SpotColumn.LABEL_DEPTH2, "label_depth2")
+                    .text(SpotColumn.LABEL_DEPTH3, "label_depth3")
+                    .text(SpotColumn.TIME, "usetime");
+        }
+
+        /** Google Places 보강 결과 컬럼 */
+        public Builder googlePlaceColumns() {
+            return text(SpotColumn.GOOGLE_PLACE_ID, "google_place_id")
+                    .map(SpotColumn.RATING, SpotTransforms.toBigDecimal(), "google_rating")
+                    .map(SpotColumn.REVIEW_COUNT, SpotTransforms.toInteger(), "google_review_count");
+        }
+
+        public Builder text(SpotColumn target, String source) {
+            return map(target, SpotTransforms.text(), source);
+        }
+
+        public Builder constant(SpotColumn target, String value) {
+            return map(target, SpotTransforms.constant(value));
+        }
+
+        /** 같은 대상 컬럼을 다시 지정하면 나중 것이 우선 */
+        public Builder map(SpotColumn target, SpotValueTransform transform, String... sources) {
+            entries.put(target, new Entry(transform, sources));
+            return this;
+        }
+
+        /** 원본 조회 조건 추가 (기본 조건과 AND) */
+        public Builder where(String condition) {
+            conditions.add(condition);
+            return this;
+        }
+
+        public SpotMigrationMapping build() {
+            return new SpotMigrationMapping(sourceTable, label, new EnumMap<>(entries), List.copyOf(conditions));
+        }
+    }
+}
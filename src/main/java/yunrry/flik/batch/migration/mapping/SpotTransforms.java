@@ -0,0 +1,223 @@
+package yunrry.flik.batch.migration.mapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import yunrry.flik.batch.migration.enums.MainCategory;
+import yunrry.flik.batch.migration.enums.RegionCode;
+import yunrry.flik.batch.migration.enums.SigunguCodeResolver;
+import yunrry.flik.batch.migration.mapper.CategoryMapper;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마이그레이션 매핑에서 쓰는 변환 모음
+ * - 숫자 변환은 원본 컬럼이 숫자 타입이면 getDouble/getInt 등으로 바로 읽고, 문자열이면 파싱 (실패 시 null)
+ * - 문자열 변환은 기존 마이그레이션과 같이 null 을 빈 문자열로 취급
+ */
+public final class SpotTransforms {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private SpotTransforms() {
+    }
+
+    /** 문자열 그대로 (null 은 빈 문자열) */
+    public static SpotValueTransform text() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            return (rs, ps) -> ps.setString(parameterIndex, readText(rs, source));
+        };
+    }
+
+    /** 원본과 무관한 고정값 */
+    public static SpotValueTransform constant(String value) {
+        return (meta, sources, parameterIndex, sqlType) ->
+                (rs, ps) -> setText(ps, parameterIndex, sqlType, value);
+    }
+
+    public static SpotValueTransform toDouble() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            if (isNumeric(meta.getColumnType(source))) {
+                return (rs, ps) -> {
+                    double value = rs.getDouble(source);
+                    if (rs.wasNull()) {
+                        ps.setNull(parameterIndex, sqlType);
+                    } else {
+                        ps.setDouble(parameterIndex, value);
+                    }
+                };
+            }
+            return (rs, ps) -> {
+                String value = rs.getString(source);
+                Double parsed = null;
+                if (value != null) {
+                    try {
+                        parsed = Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        // 기존과 같이 숫자가 아니면 null
+                    }
+                }
+                if (parsed == null) {
+                    ps.setNull(parameterIndex, sqlType);
+                } else {
+                    ps.setDouble(parameterIndex, parsed);
+                }
+            };
+        };
+    }
+
+    public static SpotValueTransform toInteger() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            if (isIntegral(meta.getColumnType(source))) {
+                return (rs, ps) -> {
+                    int value = rs.getInt(source);
+                    if (rs.wasNull()) {
+                        ps.setNull(parameterIndex, sqlType);
+                    } else {
+                        ps.setInt(parameterIndex, value);
+                    }
+                };
+            }
+            return (rs, ps) -> {
+                String value = rs.getString(source);
+                Integer parsed = null;
+                if (value != null) {
+                    try {
+                        parsed = Integer.parseInt(value);
+                    } catch (NumberFormatException e) {
+                        // 기존과 같이 정수가 아니면 null
+                    }
+                }
+                if (parsed == null) {
+                    ps.setNull(parameterIndex, sqlType);
+                } else {
+                    ps.setInt(parameterIndex, parsed);
+                }
+            };
+        };
+    }
+
+    public static SpotValueTransform toBigDecimal() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            if (isNumeric(meta.getColumnType(source))) {
+                return (rs, ps) -> {
+                    BigDecimal value = rs.getBigDecimal(source);
+                    if (value == null) {
+                        ps.setNull(parameterIndex, sqlType);
+                    } else {
+                        ps.setBigDecimal(parameterIndex, value);
+                    }
+                };
+            }
+            return (rs, ps) -> {
+                String value = rs.getString(source);
+                BigDecimal parsed = null;
+                if (value != null) {
+                    try {
+                        parsed = new BigDecimal(value);
+                    } catch (NumberFormatException e) {
+                        // 기존과 같이 숫자가 아니면 null
+                    }
+                }
+                if (parsed == null) {
+                    ps.setNull(parameterIndex, sqlType);
+                } else {
+                    ps.setBigDecimal(parameterIndex, parsed);
+                }
+            };
+        };
+    }
+
+    /** 관광공사 지역코드(area_code) -> 행정 시도코드 */
+    public static SpotValueTransform regionCode() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            return (rs, ps) -> ps.setString(parameterIndex, RegionCode.getRegnCd(readText(rs, source)));
+        };
+    }
+
+    /** 주소(addr1), 지역코드(area_code) -> 시군구 코드 (주소에 시도명이 없으면 area_code 로 지역 판단) */
+    public static SpotValueTransform sigunguCode() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int address = sources[0];
+            int areaCode = sources[1];
+            return (rs, ps) -> setText(ps, parameterIndex, sqlType,
+                    SigunguCodeResolver.resolve(readText(rs, address), rs.getString(areaCode)));
+        };
+    }
+
+    /** 중분류명(label_depth2) -> 메인 카테고리, 매칭되지 않으면 fallback */
+    public static SpotValueTransform mainCategory(String fallback) {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            return (rs, ps) -> {
+                MainCategory mainCategory = CategoryMapper.findMainCategoryBySubCategoryName(readText(rs, source));
+                ps.setString(parameterIndex, mainCategory != null ? mainCategory.toString() : fallback);
+            };
+        };
+    }
+
+    /** 비어 있지 않은 원본 값들을 JSON 배열로 (모두 비어 있으면 null) */
+    public static SpotValueTransform jsonArray() {
+        return (meta, sources, parameterIndex, sqlType) -> (rs, ps) -> {
+            List<String> values = new ArrayList<>(sources.length);
+            for (int source : sources) {
+                String value = readText(rs, source);
+                if (!value.isEmpty()) {
+                    values.add(value);
+                }
+            }
+            String json = null;
+            if (!values.isEmpty()) {
+                try {
+                    json = OBJECT_MAPPER.writeValueAsString(values);
+                } catch (Exception e) {
+                    // 직렬화 실패 시 이미지 없이 적재
+                }
+            }
+            setText(ps, parameterIndex, sqlType, json);
+        };
+    }
+
+    /** 값이 있으면 1, 없으면 0 */
+    public static SpotValueTransform presenceBit() {
+        return (meta, sources, parameterIndex, sqlType) -> {
+            int source = sources[0];
+            return (rs, ps) -> ps.setInt(parameterIndex, isPresent(rs.getString(source)) ? 1 : 0);
+        };
+    }
+
+    public static String readText(ResultSet rs, int source) throws SQLException {
+        String value = rs.getString(source);
+        return value != null ? value : "";
+    }
+
+    public static boolean isPresent(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    static void setText(PreparedStatement ps, int parameterIndex, int sqlType, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(parameterIndex, sqlType);
+        } else {
+            ps.setString(parameterIndex, value);
+        }
+    }
+
+    private static boolean isIntegral(int type) {
+        return type == Types.TINYINT || type == Types.SMALLINT || type == Types.INTEGER || type == Types.BIGINT;
+    }
+
+    private static boolean isNumeric(int type) {
+        return isIntegral(type) || type == Types.DECIMAL || type == Types.NUMERIC
+                || type == Types.REAL || type == Types.FLOAT || type == Types.DOUBLE;
+    }
+}
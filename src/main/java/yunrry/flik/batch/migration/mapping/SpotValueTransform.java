@@ -0,0 +1,14 @@
+package yunrry.flik.batch.migration.mapping;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * 원본 컬럼 -> spots 컬럼 변환
+ * 조회 시작 시 한 번 원본 컬럼 위치/타입을 보고 행 단위 ColumnBinder 로 컴파일
+ */
+@FunctionalInterface
+public interface SpotValueTransform {
+    ColumnBinder compile(ResultSetMetaData meta, int[] sourceIndexes, int parameterIndex, int sqlType)
+            throws SQLException;
+}
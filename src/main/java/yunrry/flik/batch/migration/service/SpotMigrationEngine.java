@@ -0,0 +1,170 @@
+package yunrry.flik.batch.migration.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import yunrry.flik.batch.migration.mapping.ColumnBinder;
+import yunrry.flik.batch.migration.mapping.SpotMigrationMapping;
+import yunrry.flik.batch.repository.SpotMigrationWatermarkRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * fetched_* -> spots 마이그레이션 엔진
+ * - 원본은 forward-only 스트리밍 결과셋으로 한 행씩 읽고, 컴파일된 바인더로 INSERT 파라미터에 바로 바인딩
+ * - batch-size 행마다 executeBatch + 커밋, 중간 Map/레코드 객체 없이 메모리는 배치 1개 분량만 사용
+ * - 전체 이관(INSERT IGNORE)과 updated_at 기준 증분 이관(upsert) 지원
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpotMigrationEngine {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpotMigrationWatermarkRepository watermarkRepository;
+
+    @Value("${migration.batch-size:500}")
+    private int batchSize;
+
+    // 증분 기준 시각을 조회 시작 시각보다 이만큼 앞에서 멈춤 (진행 중이던 트랜잭션의 늦은 커밋 대비)
+    @Value("${migration.watermark-lag-seconds:60}")
+    private long watermarkLagSeconds;
+
+    /** 매핑 대상 테이블 전체를 spots 로 이관하고 처리한 행 수 반환 (실패 시 예외로 스텝 실패 처리) */
+    public long migrate(SpotMigrationMapping mapping) {
+        log.info("{} 데이터 마이그레이션 시작", mapping.getLabel());
+
+        try {
+            long migrated = stream(mapping);
+            if (migrated == 0) {
+                log.warn("마이그레이션할 데이터가 없습니다.");
+            }
+
+            log.info("✅ {} 데이터 마이그레이션 완료!", mapping.getLabel());
+            return migrated;
+
+        } catch (RuntimeException e) {
+            log.error("❌ {} 데이터 마이그레이션 실패", mapping.getLabel(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 지난 실행 이후 updated_at 이 바뀐 행만 spots 에 upsert (content_id 기준, 매핑된 컬럼만 갱신)
+     * 기준 시각은 모든 배치를 커밋한 뒤 이번에 읽은 마지막 updated_at (조회 시작 시각 - lag 이하) 으로 갱신, 이력이 없으면 전체를 읽음
+     */
+    public long migrateIncremental(SpotMigrationMapping mapping) {
+        Timestamp since = watermarkRepository.findWatermark(mapping.getSourceTable());
+        log.info("{} 증분 마이그레이션 시작 - since: {}", mapping.getLabel(), since != null ? since : "전체");
+
+        try {
+            // DB 시계 기준 조회 시작 시각 (updated_at 도 DB 가 기록)
+            Timestamp readStartedAt = jdbcTemplate.queryForObject("SELECT NOW()", Timestamp.class);
+            StreamResult result = stream(mapping, mapping.getIncrementalSelectSql(), mapping.getUpsertSql(),
+                    since != null ? since : new Timestamp(0));
+            if (result.lastUpdatedAt() != null) {
+                watermarkRepository.saveWatermark(mapping.getSourceTable(),
+                        capWatermark(result.lastUpdatedAt(), readStartedAt), result.rows());
+            }
+
+            log.info("✅ {} 증분 마이그레이션 완료 - 변경 {}건", mapping.getLabel(), result.rows());
+            return result.rows();
+
+        } catch (RuntimeException e) {
+            log.error("❌ {} 증분 마이그레이션 실패", mapping.getLabel(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 기준 시각은 읽은 마지막 updated_at 과 (조회 시작 시각 - lag) 중 이른 쪽
+     * updated_at 은 문장 실행 시각으로 기록되고 커밋은 그 뒤에 일어나므로, 조회 시점에 아직 커밋되지 않은 행은
+     * 이번에 읽은 최대 updated_at 보다 이른 값으로 나중에 보일 수 있음 - 기준 시각을 그대로 올리면 영원히 누락됨
+     * 겹치는 구간은 다음 실행에서 다시 읽지만 upsert 라 결과는 같음
+     */
+    private Timestamp capWatermark(Timestamp lastUpdatedAt, Timestamp readStartedAt) {
+        Timestamp safeLimit = new Timestamp(readStartedAt.getTime() - watermarkLagSeconds * 1000);
+        return lastUpdatedAt.before(safeLimit) ? lastUpdatedAt : safeLimit;
+    }
+
+    private long stream(SpotMigrationMapping mapping) {
+        return stream(mapping, mapping.getSelectSql(), mapping.getInsertIgnoreSql(), null).rows();
+    }
+
+    /** since 가 있으면 증분 조회(첫 파라미터), 이때 읽은 행 중 가장 늦은 updated_at 도 함께 반환 */
+    private StreamResult stream(SpotMigrationMapping mapping, String selectSql, String writeSql, Timestamp since) {
+        long startedAt = System.nanoTime();
+
+        StreamResult result;
+        // 스트리밍 결과셋이 열려 있는 동안에는 같은 커넥션으로 다른 쿼리를 보낼 수 없으므로 읽기/쓰기 커넥션을 따로 사용
+        try (Connection readConnection = dataSource.getConnection();
+             Connection writeConnection = dataSource.getConnection()) {
+            // spots 쓰기는 스텝 트랜잭션이 아닌 전용 커넥션에서 executeBatch 마다 커밋
+            // - 테이블 전체를 한 트랜잭션으로 쓰면 병렬 스텝끼리 spots 유니크 인덱스의 next-key 락을 끝까지 잡고 있어 락 대기/데드락 발생
+            // - 중간 실패 시 이미 커밋된 배치는 남지만 INSERT IGNORE / upsert 라 재실행해도 결과는 같음
+            writeConnection.setAutoCommit(false);
+            try (PreparedStatement select = readConnection.prepareStatement(
+                         selectSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 PreparedStatement write = writeConnection.prepareStatement(writeSql)) {
+                // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위 스트리밍
+                select.setFetchSize(Integer.MIN_VALUE);
+                if (since != null) {
+                    select.setTimestamp(1, since);
+                }
+
+                try (ResultSet rs = select.executeQuery()) {
+                    ColumnBinder[] binders = mapping.compile(rs.getMetaData());
+                    int updatedAtIndex = mapping.getUpdatedAtIndex();
+                    Timestamp lastUpdatedAt = null;
+                    long count = 0;
+                    int pending = 0;
+                    while (rs.next()) {
+                        for (ColumnBinder binder : binders) {
+                            binder.bind(rs, write);
+                        }
+                        write.addBatch();
+                        count++;
+                        if (since != null) {
+                            // updated_at 오름차순이므로 마지막 값이 최대
+                            lastUpdatedAt = rs.getTimestamp(updatedAtIndex);
+                        }
+                        if (++pending >= batchSize) {
+                            write.executeBatch();
+                            writeConnection.commit();
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        write.executeBatch();
+                        writeConnection.commit();
+                    }
+                    result = new StreamResult(count, lastUpdatedAt);
+                }
+            } catch (SQLException | RuntimeException e) {
+                writeConnection.rollback();
+                throw e;
+            } finally {
+                writeConnection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw jdbcTemplate.getExceptionTranslator().translate("spots migration", writeSql, e);
+        }
+
+        long count = result.rows();
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("{} -> spots 마이그레이션 - {}건, {}초, {} rows/s",
+                mapping.getSourceTable(), count, String.format("%.1f", seconds), String.format("%.0f", count / seconds));
+        return result;
+    }
+
+    private record StreamResult(long rows, Timestamp lastUpdatedAt) {
+    }
+}
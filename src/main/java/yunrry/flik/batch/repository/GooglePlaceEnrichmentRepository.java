@@ -0,0 +1,119 @@
+package yunrry.flik.batch.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import yunrry.flik.batch.domain.GooglePlaceOutcome;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Places 보강 대상 조회 (fetched_* 테이블)
+ * - google_rating IS NULL + id 범위 keyset 조회 (google_rating, id) 인덱스 사용
+ * - 네거티브 캐시 기간이 지나지 않은 행은 제외
+ * - 보강 결과는 테이블별 UPDATE 한 문장으로 청크 전체를 배치 실행
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GooglePlaceEnrichmentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 테이블명 -> UPDATE 문 (테이블마다 한 번만 생성)
+    private final Map<String, String> updateSqlCache = new ConcurrentHashMap<>();
+
+    public record PendingPlace(long id, TourismRawData item) {
+    }
+
+    /** 보강 대상 id 범위 [min, max] (대상이 없으면 null) */
+    public long[] findPendingIdRange(String tableName) {
+        String sql = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + tableName + " WHERE google_rating IS NULL";
+
+        return jdbcTemplate.query(sql, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            long maxId = rs.getLong("max_id");
+            return rs.wasNull() ? null : new long[]{rs.getLong("min_id"), maxId};
+        });
+    }
+
+    /** (lastIdExclusive, maxIdInclusive] 범위에서 id 순으로 limit 건 */
+    public List<PendingPlace> findNextPending(String tableName, long lastIdExclusive, long maxIdInclusive, int limit) {
+        String sql = "SELECT t.id, t.content_id, t.title, t.addr1, t.google_place_id FROM " + tableName + " t"
+                + " WHERE t.google_rating IS NULL"
+                + " AND t.id > ? AND t.id <= ?"
+                + " AND " + GooglePlaceOutcomeRepository.notCachedCondition(tableName, "t")
+                + " ORDER BY t.id"
+                + " LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new PendingPlace(rs.getLong("id"),
+                TourismRawData.builder()
+                        .contentId(rs.getString("content_id"))
+                        .title(rs.getString("title"))
+                        .addr1(rs.getString("addr1"))
+                        .googlePlaceId(rs.getString("google_place_id"))
+                        .build()),
+                lastIdExclusive, maxIdInclusive, limit);
+    }
+
+    /**
+     * 장소를 찾은 아이템(별점 있음/없음)만 한 번의 배치로 갱신하고 갱신 건수 반환
+     * 미발견/조회 실패 아이템은 바뀐 값이 없으므로 쓰지 않음 (updated_at 이 바뀌면 증분 마이그레이션 대상이 됨)
+     */
+    public int updateGoogleData(String tableName, List<? extends TourismRawData> items) {
+        List<Object[]> params = new ArrayList<>(items.size());
+        for (TourismRawData item : items) {
+            GooglePlaceOutcome outcome = item.getGooglePlaceOutcome();
+            if (outcome != GooglePlaceOutcome.FOUND && outcome != GooglePlaceOutcome.NO_RATING) {
+                continue;
+            }
+            String reviews = item.getGoogleReviews() != null ? String.join("|||", item.getGoogleReviews()) : null;
+            params.add(new Object[]{
+                    item.getGooglePlaceId(),
+                    item.getGoogleRating(),
+                    item.getGoogleReviewCount(),
+                    reviews,
+                    item.getContentId()
+            });
+        }
+        if (params.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate(updateSql(tableName), params);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Timer.builder("google.places.write")
+                .description("보강 결과 청크 쓰기 시간")
+                .tag("table", tableName)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.debug("Google data written - table: {}, rows: {}/{}, {}ms",
+                tableName, params.size(), items.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return params.size();
+    }
+
+    private String updateSql(String tableName) {
+        return updateSqlCache.computeIfAbsent(tableName, table -> """
+            UPDATE %s SET
+                google_place_id = ?,
+                google_rating = ?,
+                google_review_count = ?,
+                google_reviews = ?,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE content_id = ?
+            """.formatted(table));
+    }
+}
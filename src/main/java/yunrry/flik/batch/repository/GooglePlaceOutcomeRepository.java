@@ -0,0 +1,77 @@
+package yunrry.flik.batch.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import yunrry.flik.batch.domain.GooglePlaceOutcome;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Google Places 조회 결과 네거티브 캐시
+ * - 미발견/별점 없음은 retry_after 까지 보강 대상에서 제외, 연속으로 같은 결과면 TTL 을 두 배씩 늘림(상한 있음)
+ * - 별점을 찾으면 기록 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class GooglePlaceOutcomeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${google.places.negative-cache.not-found-ttl-days:30}")
+    private int notFoundTtlDays;
+
+    @Value("${google.places.negative-cache.no-rating-ttl-days:14}")
+    private int noRatingTtlDays;
+
+    @Value("${google.places.negative-cache.max-ttl-days:180}")
+    private int maxTtlDays;
+
+    /** 보강 대상 조회 조건 - alias 테이블 행 중 재조회 시각이 지나지 않은 기록이 있는 행 제외 */
+    public static String notCachedCondition(String sourceTable, String alias) {
+        return "NOT EXISTS (SELECT 1 FROM google_place_lookup_outcome o"
+                + " WHERE o.source_table = '" + sourceTable + "'"
+                + " AND o.content_id = " + alias + ".content_id"
+                + " AND o.retry_after > NOW())";
+    }
+
+    /** 조회 결과가 있는 아이템만 기록 (null = API 오류 등으로 판단 못 함, 다음 실행에서 다시 조회) */
+    public void saveOutcomes(String sourceTable, List<? extends TourismRawData> items) {
+        List<Object[]> negatives = new ArrayList<>();
+        List<Object[]> found = new ArrayList<>();
+        for (TourismRawData item : items) {
+            GooglePlaceOutcome outcome = item.getGooglePlaceOutcome();
+            if (outcome == null) {
+                continue;
+            }
+            if (outcome == GooglePlaceOutcome.FOUND) {
+                found.add(new Object[]{sourceTable, item.getContentId()});
+            } else {
+                int ttlDays = outcome == GooglePlaceOutcome.NOT_FOUND ? notFoundTtlDays : noRatingTtlDays;
+                negatives.add(new Object[]{sourceTable, item.getContentId(), outcome.name(), ttlDays,
+                        ttlDays, outcome.name(), maxTtlDays});
+            }
+        }
+
+        if (!negatives.isEmpty()) {
+            // 같은 결과가 반복되면 이전 횟수 기준으로 TTL 2배 (retry_after 를 attempt_count/outcome 갱신 전에 계산)
+            String sql = """
+                INSERT INTO google_place_lookup_outcome (source_table, content_id, outcome, attempt_count, retry_after)
+                VALUES (?, ?, ?, 1, NOW() + INTERVAL ? DAY)
+                ON DUPLICATE KEY UPDATE
+                    retry_after = NOW() + INTERVAL LEAST(? * POW(2, IF(outcome = ?, attempt_count, 0)), ?) DAY,
+                    attempt_count = IF(outcome = VALUES(outcome), attempt_count + 1, 1),
+                    outcome = VALUES(outcome)
+                """;
+            jdbcTemplate.batchUpdate(sql, negatives);
+        }
+
+        if (!found.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM google_place_lookup_outcome WHERE source_table = ? AND content_id = ?", found);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package yunrry.flik.batch.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+
+/** fetched_* 테이블별 증분 마이그레이션 기준 시각(updated_at) */
+@Repository
+@RequiredArgsConstructor
+public class SpotMigrationWatermarkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 마지막으로 이관한 행의 updated_at (이관 이력이 없으면 null) */
+    public Timestamp findWatermark(String sourceTable) {
+        String sql = "SELECT last_updated_at FROM spot_migration_watermark WHERE source_table = ?";
+
+        return jdbcTemplate.queryForList(sql, Timestamp.class, sourceTable)
+                .stream().findFirst().orElse(null);
+    }
+
+    public void saveWatermark(String sourceTable, Timestamp lastUpdatedAt, long migratedCount) {
+        String sql = """
+            INSERT INTO spot_migration_watermark (source_table, last_updated_at, migrated_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                last_updated_at = VALUES(last_updated_at),
+                migrated_count = VALUES(migrated_count)
+            """;
+
+        jdbcTemplate.update(sql, sourceTable, lastUpdatedAt, migratedCount);
+    }
+}
@@ -2,17 +2,24 @@ package yunrry.flik.batch.repository;
 
 import yunrry.flik.batch.domain.ApiCallHistory;
 import yunrry.flik.batch.domain.TourismRawData;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 
 public interface TourismDataRepository {
     void saveAreaBasedData(TourismRawData data);
+    // 청크 일괄 저장 (대상 테이블별 JDBC 배치), 테이블명 -> 제출 행 수
+    Map<String, Integer> saveAreaBasedDataBatch(List<? extends TourismRawData> items);
+    // 기본 + 상세 + 도메인 + 라벨 컬럼을 한 번의 upsert 로 저장 (관광타입별 JDBC 배치)
+    Map<String, Integer> saveCompleteDataBatch(List<? extends TourismRawData> items);
     void updateDetailData(TourismRawData data);
     List<TourismRawData> findUnprocessedForDetail();
     List<TourismRawData> findUnprocessedForLabelDetail();
     void updateLabelDetailData(TourismRawData data);
     Map<String, String> findLabelNames(String code1, String code2, String code3);
+    // 상세 보강이 끝난 행의 content_id -> modified_time (증분 수집 비교용)
+    Map<String, String> findEnrichedModifiedTimes(String contentTypeId, Collection<String> contentIds);
     void markAsProcessed(String contentId);
     // TourismDataRepository 인터페이스에 추가
     void saveApiCallHistory(String contentTypeId, String areaCode, int lastPageNo, int pageSize);
@@ -7,10 +7,15 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import yunrry.flik.batch.domain.ApiCallHistory;
 import yunrry.flik.batch.domain.TourismRawData;
+import yunrry.flik.batch.mapper.ContentTypeSchema;
 import yunrry.flik.batch.repository.TourismDataRepository;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import yunrry.flik.batch.service.LabelDictionary;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,14 +25,14 @@ import java.util.Map;
 public class TourismDataRepositoryImpl implements TourismDataRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final LabelDictionary labelDictionary;
 
     @Override
     @Transactional
     public void saveAreaBasedData(TourismRawData data) {
-        String tableName = getTableName(data.getContentTypeId());
-        String sql = buildInsertSql(tableName);
+        ContentTypeSchema schema = ContentTypeSchema.of(data.getContentTypeId());
 
-        int rowsAffected = jdbcTemplate.update(sql, ps -> setBasicParameters(ps, data));
+        int rowsAffected = jdbcTemplate.update(schema.getInsertSql(), ps -> schema.bindInsert(ps, data));
 
         if (rowsAffected == 0) {
             log.info("Updated existing content_id: {} (type: {})",
@@ -38,36 +43,71 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
         }
     }
 
+    /**
+     * 청크 일괄 저장
+     * 대상 테이블별로 묶어 PreparedStatement 하나로 배치 실행
+     * (rewriteBatchedStatements=true 이면 드라이버가 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 변환)
+     */
+    @Override
+    @Transactional
+    public Map<String, Integer> saveAreaBasedDataBatch(List<? extends TourismRawData> items) {
+        Map<String, Integer> submitted = new LinkedHashMap<>();
+        groupBySchema(items).forEach((schema, rows) -> {
+            int[][] results = jdbcTemplate.batchUpdate(schema.getInsertSql(), rows, rows.size(), schema::bindInsert);
+            submitted.put(schema.getTableName(), countSubmittedRows(results));
+            log.debug("Batch upsert - table: {}, rows: {}, submitted: {}",
+                    schema.getTableName(), rows.size(), submitted.get(schema.getTableName()));
+        });
+        return submitted;
+    }
+
+    /**
+     * 기본/상세/라벨 통합 저장
+     * saveAreaBasedData + updateDetailData + updateLabelDetailData 세 문장을 행당 한 문장으로 합쳐
+     * 관광타입별 JDBC 배치로 실행 (갱신 컬럼은 기존 세 문장과 동일)
+     */
+    @Override
+    @Transactional
+    public Map<String, Integer> saveCompleteDataBatch(List<? extends TourismRawData> items) {
+        Map<String, Integer> submitted = new LinkedHashMap<>();
+        groupBySchema(items).forEach((schema, rows) -> {
+            int[][] results = jdbcTemplate.batchUpdate(schema.getCompleteUpsertSql(), rows, rows.size(), schema::bindComplete);
+            submitted.put(schema.getTableName(), countSubmittedRows(results));
+            log.debug("Batch complete upsert - table: {}, rows: {}, submitted: {}",
+                    schema.getTableName(), rows.size(), submitted.get(schema.getTableName()));
+        });
+        return submitted;
+    }
+
     @Override
     @Transactional
     public void updateDetailData(TourismRawData data) {
-        String tableName = getTableName(data.getContentTypeId());
-        String sql = buildUpdateSql(tableName, data.getContentTypeId());
+        ContentTypeSchema schema = ContentTypeSchema.of(data.getContentTypeId());
 
-        jdbcTemplate.update(sql, ps -> setDetailParameters(ps, data));
+        jdbcTemplate.update(schema.getDetailUpdateSql(), ps -> schema.bindDetailUpdate(ps, data));
     }
 
     @Override
     public List<TourismRawData> findUnprocessedForDetail() {
 
         String sql = """
-        SELECT content_id, content_type_id
+        SELECT content_id, content_type_id, modified_time
         FROM (
             -- 관광지와 음식점만 우선 처리 (500개씩)
-            (SELECT content_id, content_type_id, 1 as priority FROM fetched_tourist_attractions WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
+            (SELECT content_id, content_type_id, modified_time, 1 as priority FROM fetched_tourist_attractions WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
             UNION ALL
-            (SELECT content_id, content_type_id, 2 as priority FROM fetched_restaurants WHERE usetime IS NULL OR usetime = ''  LIMIT 150 )
+            (SELECT content_id, content_type_id, modified_time, 2 as priority FROM fetched_restaurants WHERE usetime IS NULL OR usetime = ''  LIMIT 150 )
             UNION ALL
             -- 나머지 테이블들은 나중에
-            (SELECT content_id, content_type_id, 3 as priority FROM fetched_cultural_facilities WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
+            (SELECT content_id, content_type_id, modified_time, 3 as priority FROM fetched_cultural_facilities WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
             UNION ALL
-            (SELECT content_id, content_type_id, 4 as priority FROM fetched_accommodations WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
+            (SELECT content_id, content_type_id, modified_time, 4 as priority FROM fetched_accommodations WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
             UNION ALL
-            (SELECT content_id, content_type_id, 5 as priority FROM fetched_shopping WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
+            (SELECT content_id, content_type_id, modified_time, 5 as priority FROM fetched_shopping WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
             UNION ALL
-            (SELECT content_id, content_type_id, 6 as priority FROM fetched_festivals_events WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
+            (SELECT content_id, content_type_id, modified_time, 6 as priority FROM fetched_festivals_events WHERE usetime IS NULL OR usetime = ''  LIMIT 150)
             UNION ALL
-            (SELECT content_id, content_type_id, 7 as priority FROM fetched_sports_recreation WHERE usetime IS NULL OR usetime = ''  LIMIT 100)
+            (SELECT content_id, content_type_id, modified_time, 7 as priority FROM fetched_sports_recreation WHERE usetime IS NULL OR usetime = ''  LIMIT 100)
         ) AS combined
         ORDER BY priority
         LIMIT 1000
@@ -77,6 +117,7 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
                 TourismRawData.builder()
                         .contentId(rs.getString("content_id"))
                         .contentTypeId(rs.getString("content_type_id"))
+                        .modifiedTime(rs.getString("modified_time"))
                         .build()
         );
     }
@@ -84,21 +125,21 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
     @Override
     public List<TourismRawData> findUnprocessedForLabelDetail() {
         String sql = """
-    SELECT content_id, content_type_id, title
+    SELECT content_id, content_type_id, modified_time, title
     FROM (
-        (SELECT content_id, content_type_id, title, 1 as priority FROM fetched_tourist_attractions WHERE label_depth1 IS NULL OR label_depth1 = ''  LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 1 as priority FROM fetched_tourist_attractions WHERE label_depth1 IS NULL OR label_depth1 = ''  LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 2 as priority FROM fetched_restaurants WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 2 as priority FROM fetched_restaurants WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 3 as priority FROM fetched_accommodations WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 3 as priority FROM fetched_accommodations WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 4 as priority FROM fetched_cultural_facilities WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 4 as priority FROM fetched_cultural_facilities WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 5 as priority FROM fetched_shopping WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 5 as priority FROM fetched_shopping WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 6 as priority FROM fetched_festivals_events WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
+        (SELECT content_id, content_type_id, modified_time, title, 6 as priority FROM fetched_festivals_events WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 150)
         UNION ALL
-        (SELECT content_id, content_type_id, title, 7 as priority FROM fetched_sports_recreation WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 100)
+        (SELECT content_id, content_type_id, modified_time, title, 7 as priority FROM fetched_sports_recreation WHERE label_depth1 IS NULL OR label_depth1 = '' LIMIT 100)
     ) AS combined
     ORDER BY priority, content_id
     LIMIT 1000
@@ -108,6 +149,7 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
                 TourismRawData.builder()
                         .contentId(rs.getString("content_id"))
                         .contentTypeId(rs.getString("content_type_id"))
+                        .modifiedTime(rs.getString("modified_time"))
                         .title(rs.getString("title"))
                         .build()
         );
@@ -115,30 +157,9 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
 
     @Override
     public void updateLabelDetailData(TourismRawData data) {
-        String tableName = getTableName(data.getContentTypeId());
-
-        String sql = String.format("""
-        UPDATE %s SET 
-            label_depth1 = ?, 
-            label_depth2 = ?, 
-            label_depth3 = ?, 
-            overview = ?,
-            cat1 = ?,
-            cat2 = ?,
-            cat3 = ?,
-            updated_at = CURRENT_TIMESTAMP 
-        WHERE content_id = ?
-        """, tableName);
-
-        jdbcTemplate.update(sql,
-                data.getLabelDepth1(),
-                data.getLabelDepth2(),
-                data.getLabelDepth3(),
-                data.getOverview(),
-                data.getCat1(),
-                data.getCat2(),
-                data.getCat3(),
-                data.getContentId());
+        ContentTypeSchema schema = ContentTypeSchema.of(data.getContentTypeId());
+
+        jdbcTemplate.update(schema.getLabelUpdateSql(), ps -> schema.bindLabelUpdate(ps, data));
     }
 
     @Override
@@ -158,43 +179,36 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
         }
     }
 
+    // label 테이블은 메모리 인덱스에서 조회 (DB 왕복 없음)
     @Override
     public Map<String, String> findLabelNames(String code1, String code2, String code3) {
-        Map<String, String> result = new HashMap<>();
+        return labelDictionary.findLabelNames(code1, code2, code3);
+    }
 
-        try {
-            // depth1 조회
-            if (code1 != null && !code1.isEmpty()) {
-                String sql1 = "SELECT name FROM label WHERE code = ? AND depth = 1";
-                List<String> names1 = jdbcTemplate.queryForList(sql1, String.class, code1);
-                result.put("depth1", names1.isEmpty() ? "" : names1.get(0));
-            }
 
-            // depth2 조회
-            if (code2 != null && !code2.isEmpty()) {
-                String sql2 = "SELECT name FROM label WHERE code = ? AND depth = 2";
-                List<String> names2 = jdbcTemplate.queryForList(sql2, String.class, code2);
-                result.put("depth2", names2.isEmpty() ? "" : names2.get(0));
-            }
-
-            // depth3 조회
-            if (code3 != null && !code3.isEmpty()) {
-                String sql3 = "SELECT name FROM label WHERE code = ? AND depth = 3";
-                List<String> names3 = jdbcTemplate.queryForList(sql3, String.class, code3);
-                result.put("depth3", names3.isEmpty() ? "" : names3.get(0));
-            }
-
-        } catch (Exception e) {
-            log.error("Error finding label names for codes: {}, {}, {}", code1, code2, code3, e);
-            result.put("depth1", "");
-            result.put("depth2", "");
-            result.put("depth3", "");
+    @Override
+    public Map<String, String> findEnrichedModifiedTimes(String contentTypeId, Collection<String> contentIds) {
+        if (contentIds == null || contentIds.isEmpty()) {
+            return Map.of();
         }
 
+        String tableName = getTableName(contentTypeId);
+        String placeholders = String.join(",", Collections.nCopies(contentIds.size(), "?"));
+        // overview/label_depth1 은 detailCommon2 보강 성공 시에만 채워짐 (둘 중 하나라도 NULL 이면 보강 미완료로 간주)
+        String sql = String.format(
+                "SELECT content_id, modified_time FROM %s WHERE content_id IN (%s)"
+                        + " AND overview IS NOT NULL AND label_depth1 IS NOT NULL",
+                tableName, placeholders);
+
+        Map<String, String> result = new HashMap<>();
+        jdbcTemplate.query(sql,
+                rs -> {
+                    result.put(rs.getString("content_id"), rs.getString("modified_time"));
+                },
+                contentIds.toArray());
         return result;
     }
 
-
     @Override
     public void saveApiCallHistory(String contentTypeId, String areaCode, int lastPageNo, int pageSize) {
         String sql = """
@@ -255,123 +269,29 @@ public class TourismDataRepositoryImpl implements TourismDataRepository {
     }
 
     private String getTableName(String contentTypeId) {
-        return switch (contentTypeId) {
-            case "12" -> "fetched_tourist_attractions";
-            case "14" -> "fetched_cultural_facilities";
-            case "15" -> "fetched_festivals_events";
-            case "28" -> "fetched_sports_recreation";
-            case "32" -> "fetched_accommodations";  // 추가
-            case "38" -> "fetched_shopping";
-            case "39" -> "fetched_restaurants";
-            default -> throw new IllegalArgumentException("Unknown content type: " + contentTypeId);
-        };
-    }
-
-    private String buildInsertSql(String tableName) {
-        return String.format("""
-        INSERT INTO %s (
-            content_id, content_type_id, content_type_name, title, addr1, addr2,
-            first_image, first_image2, map_x, map_y, area_code, sigungu_code,
-            cat1, cat2, cat3, created_time, modified_time, tel, zipcode, overview, source
-        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        ON DUPLICATE KEY UPDATE
-            title = VALUES(title),
-            addr1 = VALUES(addr1),
-            first_image = VALUES(first_image),
-            modified_time = VALUES(modified_time),
-            updated_at = CURRENT_TIMESTAMP
-        """, tableName);
+        return ContentTypeSchema.of(contentTypeId).getTableName();
     }
 
-    private String buildUpdateSql(String tableName, String contentTypeId) {
-        StringBuilder sql = new StringBuilder(String.format(
-                "UPDATE %s SET usetime = ?, restdate = ?, parking = ?, parkingfee = ?, " +
-                        "infocenter = ?, chkbabycarriage = ?, chkpet = ?, chkcreditcard = ?", tableName));
-
-        // 도메인별 특화 필드 추가
-        List<String> domainFields = getDomainFields(contentTypeId);
-        for (String field : domainFields) {
-            sql.append(", ").append(field).append(" = ?");
+    private Map<ContentTypeSchema, List<TourismRawData>> groupBySchema(List<? extends TourismRawData> items) {
+        Map<ContentTypeSchema, List<TourismRawData>> groups = new LinkedHashMap<>();
+        for (TourismRawData item : items) {
+            groups.computeIfAbsent(ContentTypeSchema.of(item.getContentTypeId()), k -> new ArrayList<>()).add(item);
         }
-
-        sql.append(", updated_at = CURRENT_TIMESTAMP WHERE content_id = ?");
-        return sql.toString();
-    }
-
-    private List<String> getDomainFields(String contentTypeId) {
-        return switch (contentTypeId) {
-            case "12" -> List.of("heritage1", "heritage2", "heritage3", "opendate",
-                    "expguide", "expagerange", "accomcount", "useseason");
-            case "14" -> List.of("scale", "usefee", "discountinfo", "spendtime");
-            case "15" -> List.of("sponsor1", "sponsor1tel", "sponsor2", "sponsor2tel",
-                    "eventenddate", "playtime", "eventplace", "eventhomepage",
-                    "agelimit", "bookingplace", "placeinfo", "subevent", "program",
-                    "eventstartdate", "usetimefestival", "discountinfofestival",
-                    "spendtimefestival", "festivalgrade", "progresstype", "festivaltype");
-            case "28" -> List.of("openperiod", "reservation", "scaleleports",
-                    "accomcountleports", "usefeeleports", "expagerangeleports");
-            case "32" -> List.of("roomcount", "roomtype", "refundregulation", "checkintime", "checkouttime",
-                    "chkcooking", "seminar", "sports", "sauna", "beauty", "beverage", "karaoke",
-                    "barbecue", "campfire", "bicycle", "fitness", "publicpc", "publicbath",
-                    "subfacility", "foodplace", "reservationurl", "pickup", "reservationlodging",
-                    "scalelodging", "accomcountlodging");
-            case "38" -> List.of("saleitem", "saleitemcost", "fairday", "opendateshopping",
-                    "shopguide", "culturecenter", "restroom", "scaleshopping");
-            case "39" -> List.of("seat", "kidsfacility", "firstmenu", "treatmenu", "smoking",
-                    "packing", "scalefood", "opendatefood", "discountinfofood",
-                    "reservationfood", "lcnsno");
-            default -> List.of();
-        };
-    }
-
-    private void setBasicParameters(PreparedStatement ps, TourismRawData data) throws SQLException {
-        ps.setString(1, data.getContentId());
-        ps.setString(2, data.getContentTypeId());
-        ps.setString(3, data.getContentTypeName());
-        ps.setString(4, data.getTitle());
-        ps.setString(5, data.getAddr1());
-        ps.setString(6, data.getAddr2());
-        ps.setString(7, data.getFirstImage());
-        ps.setString(8, data.getFirstImage2());
-        ps.setString(9, data.getMapX());
-        ps.setString(10, data.getMapY());
-        ps.setString(11, data.getAreaCode());
-        ps.setString(12, data.getSigunguCode());
-        ps.setString(13, data.getCat1());
-        ps.setString(14, data.getCat2());
-        ps.setString(15, data.getCat3());
-        ps.setString(16, data.getCreatedTime());
-        ps.setString(17, data.getModifiedTime());
-        ps.setString(18, data.getTel());
-        ps.setString(19, data.getZipcode());
-        ps.setString(20, data.getOverview());
-        ps.setString(21, data.getSource());
+        return groups;
     }
 
-
-    private void setDetailParameters(PreparedStatement ps, TourismRawData data) throws SQLException {
-        int paramIndex = 1;
-
-        // 공통 필드
-        ps.setString(paramIndex++, data.getUsetime());
-        ps.setString(paramIndex++, data.getRestdate());
-        ps.setString(paramIndex++, data.getParking());
-        ps.setString(paramIndex++, data.getParkingfee());
-        ps.setString(paramIndex++, data.getInfocenter());
-        ps.setString(paramIndex++, data.getChkbabycarriage());
-        ps.setString(paramIndex++, data.getChkpet());
-        ps.setString(paramIndex++, data.getChkcreditcard());
-
-        // 도메인별 특화 필드
-        List<String> domainFields = getDomainFields(data.getContentTypeId());
-        Map<String, String> domainFieldsMap = data.getDomainFields();
-
-        for (String field : domainFields) {
-            String value = domainFieldsMap != null ? domainFieldsMap.get(field) : "";
-            ps.setString(paramIndex++, value != null ? value : "");
+    // 배치로 제출되어 실패하지 않은 행 수
+    // 재작성된 배치(rewriteBatchedStatements)는 건별 영향 행 수 대신 SUCCESS_NO_INFO 를 돌려주므로
+    // 신규/갱신/변경 없음을 구분할 수 없어 "영향 행 수" 가 아닌 "제출 행 수" 로 집계
+    private int countSubmittedRows(int[][] results) {
+        int total = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count != Statement.EXECUTE_FAILED) {
+                    total++;
+                }
+            }
         }
-
-        // WHERE 조건
-        ps.setString(paramIndex, data.getContentId());
+        return total;
     }
-}
\ No newline at end of file
+}
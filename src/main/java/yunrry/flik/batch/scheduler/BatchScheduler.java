@@ -3,8 +3,10 @@ package yunrry.flik.batch.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,64 +14,63 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BatchScheduler {
 
-    private static final String[] AREA_CODES = {
-            "2", "3", "4", "5", "6", "7", "8", "31", "32", "33", "34", "35", "36", "37", "38", "39", "1"
-    };
-    // 관광타입(12:관광지, 14:문화시설, 15:축제공연행사, 28:레포츠, 32:숙박, 38:쇼핑, 39:음식점)
-    private static final String[] CONTENT_TYPE_IDS = { "12", "14", "15", "28", "32", "38", "39" };
     private static final String DEFAULT_COLLECT_COUNT = "100";
-    private static final long BETWEEN_RUN_DELAY_MS = 1000L;
 
     private final JobLauncher jobLauncher;
     private final JobExplorer jobExplorer;
 
     private final Job tourismDataJob;
     private final Job allMigrationJob;
-    private final Job tourismDataCollectionJob;
+    private final Job incrementalMigrationJob;
+    private final Job tourismDataCollectionPartitionedJob;
     private final Job spotImageBackfillJob;
 
     @Value("${tourism-api.service-key}")
     private String serviceKey;
 
-    // 매 분기(1,4,7,10월) 1일 01시, 19시 실행
+    // 매 분기(1,4,7,10월) 1일 01시 실행
+    // 지역 × 관광타입 조합은 파티션으로 나눠 한 번의 JobExecution 으로 수집
     @Scheduled(cron = "0 0 1 1 1,4,7,10 ?", zone = "Asia/Seoul")
     public void executeTourismDataCollectionBatch() {
         // 겹침 방지: 이전 실행이 남아있으면 건너뜀
-        if (!jobExplorer.findRunningJobExecutions(tourismDataCollectionJob.getName()).isEmpty()) {
-            log.warn("Skip scheduling. Job '{}' is still running.", tourismDataCollectionJob.getName());
+        if (!jobExplorer.findRunningJobExecutions(tourismDataCollectionPartitionedJob.getName()).isEmpty()) {
+            log.warn("Skip scheduling. Job '{}' is still running.", tourismDataCollectionPartitionedJob.getName());
             return;
         }
 
-        for (String areaCode : AREA_CODES) {
-            for (String contentTypeId : CONTENT_TYPE_IDS) {
-                try {
-                    JobParameters jobParameters = new JobParametersBuilder()
-                            .addString("serviceKey", serviceKey)
-                            .addString("areaCode", areaCode)
-                            .addString("contentTypeId", contentTypeId)
-                            .addString("collectCount", DEFAULT_COLLECT_COUNT)
-                            .addString("executionTime", LocalDateTime.now().toString())
-                            // 유일성 보장 파라미터
-                            .addLong("run.id", System.currentTimeMillis())
-                            .toJobParameters();
-
-                    log.info("Launch '{}' areaCode={}, contentTypeId={}, collectCount={}",
-                            tourismDataCollectionJob.getName(), areaCode, contentTypeId, DEFAULT_COLLECT_COUNT);
-
-                    jobLauncher.run(tourismDataCollectionJob, jobParameters);
-
-                    TimeUnit.MILLISECONDS.sleep(BETWEEN_RUN_DELAY_MS);
-                } catch (Exception e) {
-                    log.error("Failed - area: {}, type: {}", areaCode, contentTypeId, e);
-                }
-            }
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("serviceKey", serviceKey)
+                    .addString("collectCount", DEFAULT_COLLECT_COUNT)
+                    .addString("executionTime", LocalDateTime.now().toString())
+                    // 유일성 보장 파라미터
+                    .addLong("run.id", System.currentTimeMillis())
+                    .toJobParameters();
+
+            log.info("Launch '{}' collectCount={}", tourismDataCollectionPartitionedJob.getName(), DEFAULT_COLLECT_COUNT);
+
+            JobExecution execution = jobLauncher.run(tourismDataCollectionPartitionedJob, jobParameters);
+
+            // 워커 스텝 이름: tourismCollectionStep:area{지역}-type{타입}
+            List<StepExecution> partitions = execution.getStepExecutions().stream()
+                    .filter(step -> step.getStepName().contains(":"))
+                    .toList();
+            List<StepExecution> failed = partitions.stream()
+                    .filter(step -> step.getStatus().isUnsuccessful())
+                    .toList();
+            log.info("Tourism data collection finished - status: {}, partitions: {}, failed: {}",
+                    execution.getStatus(), partitions.size(), failed.size());
+            failed.forEach(step -> log.warn("Failed partition: {} - {}",
+                    step.getStepName(), step.getExitStatus().getExitDescription()));
+        } catch (Exception e) {
+            log.error("Failed to execute tourism data collection batch job", e);
         }
     }
 
@@ -95,6 +96,30 @@ public class BatchScheduler {
         }
     }
 
+    // 매일 04시 30분 변경분만 spots 에 반영 (분기 전체 마이그레이션과 겹치면 건너뜀)
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    public void executeIncrementalMigrationBatch() {
+        if (!jobExplorer.findRunningJobExecutions(incrementalMigrationJob.getName()).isEmpty()
+                || !jobExplorer.findRunningJobExecutions(allMigrationJob.getName()).isEmpty()) {
+            log.warn("Skip scheduling. Job '{}' or '{}' is still running.",
+                    incrementalMigrationJob.getName(), allMigrationJob.getName());
+            return;
+        }
+
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("executionTime", LocalDateTime.now().toString())
+                    .addLong("run.id", System.currentTimeMillis())
+                    .toJobParameters();
+
+            log.info("Launch '{}'", incrementalMigrationJob.getName());
+            jobLauncher.run(incrementalMigrationJob, jobParameters);
+            log.info("Incremental migration batch job completed successfully");
+        } catch (Exception e) {
+            log.error("Failed to execute incremental migration batch job", e);
+        }
+    }
+
     @Scheduled(cron = "0 0 5 1 1,4,7,10 ?", zone = "Asia/Seoul")
     public void executeSpotImageBackfillBatch() {
         if (!jobExplorer.findRunningJobExecutions(spotImageBackfillJob.getName()).isEmpty()) {
@@ -2,15 +2,22 @@ package yunrry.flik.batch.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import yunrry.flik.batch.domain.AreaBasedPage;
 import yunrry.flik.batch.domain.TourismRawData;
 import yunrry.flik.batch.exception.ApiLimitExceededException;
+import yunrry.flik.batch.mapper.AreaBasedListParser;
 import yunrry.flik.batch.repository.TourismDataRepository;
 
 import java.time.Duration;
@@ -23,6 +30,9 @@ public class ApiService {
 
     private final ObjectMapper objectMapper;
     private final TourismDataRepository tourismDataRepository;
+    private final WebClient tourApiWebClient;
+    private final AreaBasedListParser areaBasedListParser;
+    private final TourApiResponseCache responseCache;
 
     @Value("${tourism-api.base-url}")
     private String baseUrl;
@@ -30,17 +40,52 @@ public class ApiService {
     @Value("${tourism-api.service-key}")
     private String serviceKey;
 
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("https://apis.data.go.kr/B551011/KorService2")
-            .defaultHeader("accept", "*/*")
-            .build();
+    // 원본 item Map(rawData) 보관 여부 - 저장되지 않으므로 기본 off
+    @Value("${tourism-api.parser.include-raw-data:false}")
+    private boolean includeRawData;
+
 
 
 
     // ApiService.java
     public List<TourismRawData> fetchAreaBasedListByContentType(int pageNo, String areaCode,
                                                                 String contentTypeId, int numOfRows, String serviceKeyParam) {
-        Map<String, Object> params = Map.of(
+        Map<String, Object> params = areaBasedParams(pageNo, areaCode, contentTypeId, numOfRows, serviceKeyParam);
+
+        try {
+            log.info("Calling API with params: {}", params);
+            return streamAreaBasedList(params);
+        } catch (ApiLimitExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching area based list", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 논블로킹 페이지 조회 (totalCount 포함) - 페이지 선조회(prefetch)에서 사용
+     * 한도 초과는 에러로 전달, 그 외 실패는 빈 페이지
+     */
+    public Mono<AreaBasedPage> fetchAreaBasedPageAsync(int pageNo, String areaCode,
+                                                       String contentTypeId, int numOfRows, String serviceKeyParam) {
+        Map<String, Object> params = areaBasedParams(pageNo, areaCode, contentTypeId, numOfRows, serviceKeyParam);
+        log.info("Calling API with params: {}", params);
+
+        return streamAreaBasedPage(pageNo, params)
+                .onErrorResume(e -> !(e instanceof ApiLimitExceededException), e -> {
+                    log.error("Error fetching area based list - page: {}", pageNo, e);
+                    return Mono.just(AreaBasedPage.builder()
+                            .pageNo(pageNo)
+                            .items(Collections.emptyList())
+                            .totalCount(-1)
+                            .build());
+                });
+    }
+
+    private Map<String, Object> areaBasedParams(int pageNo, String areaCode, String contentTypeId,
+                                                int numOfRows, String serviceKeyParam) {
+        return Map.of(
                 "serviceKey", serviceKeyParam,
                 "numOfRows", numOfRows,
                 "pageNo", pageNo,
@@ -51,31 +96,43 @@ public class ApiService {
                 "arrange", "C",
                 "areaCode", areaCode
         );
+    }
 
-        try {
-            log.info("Calling API with params: {}", params);
-            String response = webClient.get()
+    private List<TourismRawData> streamAreaBasedList(Map<String, Object> params) {
+        return streamAreaBasedPage((Integer) params.get("pageNo"), params)
+                .map(AreaBasedPage::getItems)
+                .block();
+    }
+
+    // 응답 본문을 버퍼 단위로 바로 파싱 (한도 초과 응답은 수신 도중 중단)
+    private Mono<AreaBasedPage> streamAreaBasedPage(int pageNo, Map<String, Object> params) {
+        return Mono.defer(() -> {
+            AreaBasedListParser.Session session = areaBasedListParser.newSession(includeRawData);
+            return tourApiWebClient.get()
                     .uri(uriBuilder -> {
                         uriBuilder.path("/areaBasedList2");
                         params.forEach(uriBuilder::queryParam);
                         return uriBuilder.build();
                     })
                     .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-            log.info("API response length: {}, first 100 chars: {}",
-                    response.length(), response.substring(0, Math.min(100, response.length())));
-            handleApiResponse(response);
-            return parseAreaBasedResponse(response);
-        } catch (Exception e) {
-            log.error("Error fetching area based list", e);
-            return Collections.emptyList();
-        }
+                    .bodyToFlux(DataBuffer.class)
+                    .doOnNext(buffer -> {
+                        try {
+                            session.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(() -> AreaBasedPage.builder()
+                            .pageNo(pageNo)
+                            .items(session.finish())
+                            .totalCount(session.getTotalCount())
+                            .build()));
+        }).timeout(Duration.ofSeconds(30));
     }
 
     private void handleApiResponse(String response) throws ApiLimitExceededException {
-        if (response != null && response.contains("LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR")) {
+        if (response != null && response.contains(AreaBasedListParser.LIMIT_EXCEEDED_MARKER)) {
             throw new ApiLimitExceededException("API 호출 한도 초과");
         }
     }
@@ -96,18 +153,9 @@ public class ApiService {
         );
 
         try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path("/areaBasedList2");
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-            handleApiResponse(response);
-            return parseAreaBasedResponse(response);
+            return streamAreaBasedList(params);
+        } catch (ApiLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching area based list", e);
             return Collections.emptyList();
@@ -115,7 +163,30 @@ public class ApiService {
     }
 
 
-    public Map<String, Object> fetchDetailIntro(String contentId, String contentTypeId, String serviceKeyParam) {
+    // 응답 item 노드를 그대로 반환 (FieldMapper 가 노드에서 바로 매핑, 없으면 MissingNode)
+    // 블로킹 버전은 한도 초과도 빈 노드 반환 (기존 계약 유지, 한도 초과 전달은 *Async 만)
+    public JsonNode fetchDetailIntro(String contentId, String contentTypeId, String serviceKeyParam) {
+        return blockIgnoringLimit(fetchDetailIntroAsync(contentId, contentTypeId, serviceKeyParam),
+                MissingNode.getInstance(), "detailIntro2", contentId);
+    }
+
+    // item 의 modifiedtime 을 캐시 키로 사용 (변경 없는 콘텐츠는 캐시 히트)
+    public JsonNode fetchDetailIntro(TourismRawData item, String serviceKeyParam) {
+        return blockIgnoringLimit(fetchDetailIntroAsync(item, serviceKeyParam),
+                MissingNode.getInstance(), "detailIntro2", item.getContentId());
+    }
+
+    // 논블로킹 버전 - 청크 단위 동시 보강에서 사용 (실패 시 빈 노드, 한도 초과는 ApiLimitExceededException)
+    public Mono<JsonNode> fetchDetailIntroAsync(String contentId, String contentTypeId, String serviceKeyParam) {
+        return fetchDetailIntroAsync(contentId, contentTypeId, null, serviceKeyParam);
+    }
+
+    public Mono<JsonNode> fetchDetailIntroAsync(TourismRawData item, String serviceKeyParam) {
+        return fetchDetailIntroAsync(item.getContentId(), item.getContentTypeId(), item.getModifiedTime(), serviceKeyParam);
+    }
+
+    private Mono<JsonNode> fetchDetailIntroAsync(String contentId, String contentTypeId,
+                                                 String modifiedTime, String serviceKeyParam) {
         Map<String, Object> params = Map.of(
                 "serviceKey", serviceKeyParam,
                 "contentId", contentId,
@@ -125,111 +196,39 @@ public class ApiService {
                 "_type", "json"
         );
 
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path("/detailIntro2");
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-            handleApiResponse(response);
-            return parseDetailIntroResponse(response);
-        } catch (Exception e) {
-            log.error("Error fetching detail intro for contentId: {}", contentId, e);
-            return Collections.emptyMap();
-        }
+        Mono<String> request = tourApiWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/detailIntro2");
+                    params.forEach(uriBuilder::queryParam);
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(30));
+
+        return responseCache.getOrFetch("detailIntro2", contentId, modifiedTime, request)
+                .map(response -> {
+                    handleApiResponse(response);
+                    return parseDetailIntroResponse(response);
+                })
+                // 한도 초과는 호출 측에서 알림/중단 처리
+                .onErrorResume(e -> !(e instanceof ApiLimitExceededException), e -> {
+                    log.error("Error fetching detail intro for contentId: {}", contentId, e);
+                    return Mono.just(MissingNode.getInstance());
+                });
     }
 
     public List<TourismRawData> fetchUnprocessedDataForDetail() {
         return tourismDataRepository.findUnprocessedForDetail();
     }
 
-    private List<TourismRawData> parseAreaBasedResponse(String response) {
+    private JsonNode parseDetailIntroResponse(String response) {
         try {
             JsonNode root = objectMapper.readTree(response);
             JsonNode items = root.path("response").path("body").path("items");
 
             if (items.isMissingNode() || !items.has("item")) {
-                return Collections.emptyList();
-            }
-
-            JsonNode itemArray = items.path("item");
-            List<TourismRawData> results = new ArrayList<>();
-
-            if (itemArray.isArray()) {
-                for (JsonNode item : itemArray) {
-                    // 여행코스(25) 필터링
-                    String contentTypeId = getTextValue(item, "contenttypeid");
-                    if ("25".equals(contentTypeId)) {
-                        log.debug("Skipping travel course data: contentId={}", getTextValue(item, "contentid"));
-                        continue;
-                    }
-
-                    TourismRawData data = parseAreaBasedItem(item);
-                    if (data != null) {
-                        results.add(data);
-                    }
-                }
-            } else {
-                // 단일 아이템인 경우도 체크
-                String contentTypeId = getTextValue(itemArray, "contenttypeid");
-                if (!"25".equals(contentTypeId)) {
-                    TourismRawData data = parseAreaBasedItem(itemArray);
-                    if (data != null) {
-                        results.add(data);
-                    }
-                }
-            }
-
-            log.info("Parsed {} items (filtered out travel courses)", results.size());
-            return results;
-        } catch (Exception e) {
-            log.error("Error parsing area based response", e);
-            return Collections.emptyList();
-        }
-    }
-
-    private TourismRawData parseAreaBasedItem(JsonNode item) {
-        try {
-            return TourismRawData.builder()
-                    .contentId(getTextValue(item, "contentid"))
-                    .contentTypeId(getTextValue(item, "contenttypeid"))
-                    .title(getTextValue(item, "title"))
-                    .addr1(getTextValue(item, "addr1"))
-                    .addr2(getTextValue(item, "addr2"))
-                    .firstImage(getTextValue(item, "firstimage"))
-                    .firstImage2(getTextValue(item, "firstimage2"))
-                    .mapX(getTextValue(item, "mapx"))
-                    .mapY(getTextValue(item, "mapy"))
-                    .areaCode(getTextValue(item, "areacode"))
-                    .sigunguCode(getTextValue(item, "sigungucode"))
-                    .cat1(getTextValue(item, "cat1"))
-                    .cat2(getTextValue(item, "cat2"))
-                    .cat3(getTextValue(item, "cat3"))
-                    .createdTime(getTextValue(item, "createdtime"))
-                    .modifiedTime(getTextValue(item, "modifiedtime"))
-                    .tel(getTextValue(item, "tel"))
-                    .zipcode(getTextValue(item, "zipcode"))
-                    .overview(getTextValue(item, "overview"))
-                    .rawData(convertToMap(item))
-                    .build();
-        } catch (Exception e) {
-            log.error("Error parsing area based item", e);
-            return null;
-        }
-    }
-
-    private Map<String, Object> parseDetailIntroResponse(String response) {
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("response").path("body").path("items");
-
-            if (items.isMissingNode() || !items.has("item")) {
-                return Collections.emptyMap();
+                return MissingNode.getInstance();
             }
 
             JsonNode item = items.path("item");
@@ -237,10 +236,10 @@ public class ApiService {
                 item = item.get(0);
             }
 
-            return convertToMap(item);
+            return item;
         } catch (Exception e) {
             log.error("Error parsing detail intro response", e);
-            return Collections.emptyMap();
+            return MissingNode.getInstance();
         }
     }
 
@@ -249,19 +248,38 @@ public class ApiService {
         return field.isMissingNode() ? "" : field.asText();
     }
 
-    private Map<String, Object> convertToMap(JsonNode node) {
-        try {
-            return objectMapper.convertValue(node, Map.class);
-        } catch (Exception e) {
-            log.error("Error converting JsonNode to Map", e);
-            return Collections.emptyMap();
-        }
-    }
 
 
 
 
+    // 블로킹 버전은 한도 초과도 null 반환 (기존 계약 유지)
     public TourismRawData fetchDetailCommon(String contentId, String serviceKeyParam) {
+        return blockIgnoringLimit(fetchDetailCommonAsync(contentId, serviceKeyParam), null, "detailCommon2", contentId);
+    }
+
+    public TourismRawData fetchDetailCommon(TourismRawData item, String serviceKeyParam) {
+        return blockIgnoringLimit(fetchDetailCommonAsync(item, serviceKeyParam), null, "detailCommon2", item.getContentId());
+    }
+
+    private <T> T blockIgnoringLimit(Mono<T> request, T fallback, String endpoint, String contentId) {
+        return request
+                .onErrorResume(ApiLimitExceededException.class, e -> {
+                    log.warn("API limit exceeded, returning empty result - {} contentId: {}", endpoint, contentId);
+                    return Mono.justOrEmpty(fallback);
+                })
+                .block();
+    }
+
+    // 논블로킹 버전 - 실패 시 empty, 한도 초과는 ApiLimitExceededException
+    public Mono<TourismRawData> fetchDetailCommonAsync(String contentId, String serviceKeyParam) {
+        return fetchDetailCommonAsync(contentId, null, serviceKeyParam);
+    }
+
+    public Mono<TourismRawData> fetchDetailCommonAsync(TourismRawData item, String serviceKeyParam) {
+        return fetchDetailCommonAsync(item.getContentId(), item.getModifiedTime(), serviceKeyParam);
+    }
+
+    private Mono<TourismRawData> fetchDetailCommonAsync(String contentId, String modifiedTime, String serviceKeyParam) {
         Map<String, Object> params = Map.of(
                 "serviceKey", serviceKeyParam,
                 "contentId", contentId,
@@ -271,28 +289,29 @@ public class ApiService {
 
         );
 
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path("/detailCommon2");
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
-
-            return parseDetailCommonResponse(response, contentId);
-
-        } catch (WebClientResponseException e) {
-            log.error("API call failed for contentId: {}, status={}, body={}",
-                    contentId, e.getStatusCode(), e.getResponseBodyAsString());
-            return null;
-        } catch (Exception e) {
-            log.error("Error fetching detail common for contentId: {}", contentId, e);
-            return null;
-        }
+        Mono<String> request = tourApiWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/detailCommon2");
+                    params.forEach(uriBuilder::queryParam);
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(30));
+
+        return responseCache.getOrFetch("detailCommon2", contentId, modifiedTime, request)
+                // 분류명 조회(DB)가 포함되므로 네트워크 스레드에서 파싱하지 않음
+                .publishOn(Schedulers.boundedElastic())
+                .mapNotNull(response -> parseDetailCommonResponse(response, contentId))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("API call failed for contentId: {}, status={}, body={}",
+                            contentId, e.getStatusCode(), e.getResponseBodyAsString());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> !(e instanceof ApiLimitExceededException), e -> {
+                    log.error("Error fetching detail common for contentId: {}", contentId, e);
+                    return Mono.empty();
+                });
     }
 
     private String buildDetailCommonUrl(String contentId) {
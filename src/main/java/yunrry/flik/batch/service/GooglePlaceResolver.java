@@ -0,0 +1,175 @@
+package yunrry.flik.batch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import yunrry.flik.batch.domain.PlaceReview;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Google place_id 해석 계층
+ * - 아이템에 저장된 google_place_id, 없으면 fetched_* 전체에서 모은 place_id 인덱스(content_id, 제목+주소)를 먼저 확인
+ * - 인덱스에 있으면 Place Details 1회만 호출, 없을 때만 Text Search + Details
+ * - 같은 장소가 여러 테이블에 있어도 한 번 찾은 place_id 는 인덱스에 추가되어 재사용
+ * - 저장된 place_id 로 상세 조회가 비면(폐업/ID 변경 등) Text Search 로 다시 찾음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GooglePlaceResolver {
+
+    // google_place_id 컬럼이 있는 테이블
+    private static final List<String> PLACE_TABLES = List.of(
+            "fetched_tourist_attractions",
+            "fetched_restaurants",
+            "fetched_accommodations",
+            "fetched_cultural_facilities",
+            "fetched_sports_recreation",
+            "fetched_shopping"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GooglePlacesService googlePlacesService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> placeIdByContentId = new ConcurrentHashMap<>();
+    private final Map<String, String> placeIdByTitleAddress = new ConcurrentHashMap<>();
+
+    // 실행(refresh) 단위 집계
+    private final AtomicLong searchesAvoided = new AtomicLong();
+    private final AtomicLong searches = new AtomicLong();
+
+    private Counter indexHitCounter;
+    private Counter searchCounter;
+
+    @PostConstruct
+    void init() {
+        indexHitCounter = resolutionCounter("index");
+        searchCounter = resolutionCounter("search");
+    }
+
+    /** fetched_* 테이블의 저장된 place_id 를 다시 읽어 인덱스 교체, 집계 초기화 후 적재된 수 반환 */
+    public int refresh() {
+        searchesAvoided.set(0);
+        searches.set(0);
+        try {
+            Map<String, String> byContentId = new ConcurrentHashMap<>();
+            Map<String, String> byTitleAddress = new ConcurrentHashMap<>();
+            for (String table : PLACE_TABLES) {
+                jdbcTemplate.query("SELECT content_id, title, addr1, google_place_id FROM " + table
+                        + " WHERE google_place_id IS NOT NULL AND google_place_id != ''", rs -> {
+                    String placeId = rs.getString("google_place_id");
+                    byContentId.putIfAbsent(rs.getString("content_id"), placeId);
+                    String key = titleAddressKey(rs.getString("title"), rs.getString("addr1"));
+                    if (key != null) {
+                        byTitleAddress.putIfAbsent(key, placeId);
+                    }
+                });
+            }
+
+            placeIdByContentId.clear();
+            placeIdByContentId.putAll(byContentId);
+            placeIdByTitleAddress.clear();
+            placeIdByTitleAddress.putAll(byTitleAddress);
+
+            log.info("Google place_id index loaded - contents: {}, title/address keys: {}",
+                    byContentId.size(), byTitleAddress.size());
+            return byContentId.size();
+        } catch (Exception e) {
+            log.error("Failed to load google place_id index, keeping previous index", e);
+            return placeIdByContentId.size();
+        }
+    }
+
+    public PlaceReview resolve(TourismRawData item) {
+        return resolveAsync(item).block();
+    }
+
+    // 논블로킹 버전 - 장소를 못 찾으면 empty, API 오류는 error
+    public Mono<PlaceReview> resolveAsync(TourismRawData item) {
+        String knownPlaceId = findPlaceId(item);
+        if (knownPlaceId == null) {
+            return search(item);
+        }
+
+        searchesAvoided.incrementAndGet();
+        indexHitCounter.increment();
+        return googlePlacesService.getPlaceDetailsAsync(knownPlaceId)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("Stored place_id returned no details, searching again: {} ({})",
+                            item.getContentId(), knownPlaceId);
+                    return search(item);
+                }));
+    }
+
+    /** 이번 실행에서 Text Search 를 생략한 수 */
+    public long getSearchesAvoided() {
+        return searchesAvoided.get();
+    }
+
+    /** 이번 실행에서 Text Search 를 호출한 수 */
+    public long getSearches() {
+        return searches.get();
+    }
+
+    private Mono<PlaceReview> search(TourismRawData item) {
+        searches.incrementAndGet();
+        searchCounter.increment();
+        return googlePlacesService.getPlaceDataAsync(item.getTitle(), item.getAddr1())
+                .doOnNext(placeData -> remember(item, placeData.getPlaceId()));
+    }
+
+    private String findPlaceId(TourismRawData item) {
+        if (item.getGooglePlaceId() != null && !item.getGooglePlaceId().isBlank()) {
+            return item.getGooglePlaceId();
+        }
+        String placeId = item.getContentId() != null ? placeIdByContentId.get(item.getContentId()) : null;
+        if (placeId != null) {
+            return placeId;
+        }
+        String key = titleAddressKey(item.getTitle(), item.getAddr1());
+        return key != null ? placeIdByTitleAddress.get(key) : null;
+    }
+
+    private void remember(TourismRawData item, String placeId) {
+        if (placeId == null || placeId.isBlank()) {
+            return;
+        }
+        if (item.getContentId() != null) {
+            placeIdByContentId.put(item.getContentId(), placeId);
+        }
+        String key = titleAddressKey(item.getTitle(), item.getAddr1());
+        if (key != null) {
+            placeIdByTitleAddress.put(key, placeId);
+        }
+    }
+
+    // 공백 차이는 같은 장소로 간주
+    private String titleAddressKey(String title, String address) {
+        if (title == null || title.isBlank() || address == null || address.isBlank()) {
+            return null;
+        }
+        return normalize(title) + "|" + normalize(address);
+    }
+
+    private String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ");
+    }
+
+    private Counter resolutionCounter(String source) {
+        return Counter.builder("google.places.resolutions")
+                .description("place_id 확보 경로 (index: Text Search 생략)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -7,13 +7,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import yunrry.flik.batch.domain.PlaceReview;
+import yunrry.flik.batch.exception.ApiLimitExceededException;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Google Places 조회 (Text Search -> Place Details)
+ * - 논블로킹 버전은 두 호출을 이어 붙인 Mono 를 반환해 여러 아이템을 겹쳐서 조회할 수 있음
+ * - 모든 호출은 초당 요청 수(max-qps) 제한을 거쳐 나감
+ * - 장소 없음(ZERO_RESULTS/NOT_FOUND)은 empty, 그 외 API 오류는 error 로 구분해 미발견으로 오인하지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -27,21 +36,30 @@ public class GooglePlacesService {
     @Value("${google.places.api-key}")
     private String apiKey;
 
+    // 초당 최대 요청 수 (0 이하면 제한 없음)
+    @Value("${google.places.max-qps:10}")
+    private int maxQps;
+
+    // 다음 요청을 보낼 수 있는 시각(nanoTime), 요청마다 1/max-qps 간격으로 예약
+    private final AtomicLong nextRequestAt = new AtomicLong(System.nanoTime());
+
     public PlaceReview getPlaceData(String title, String address) {
         try {
-            // 1. Text Search로 장소 찾기
-            String placeId = searchPlace(title, address);
-            if (placeId == null) return null;
-
-            // 2. Place Details로 별점 및 리뷰 가져오기
-            return getPlaceDetails(placeId);
+            return getPlaceDataAsync(title, address).block();
         } catch (Exception e) {
             log.error("Error fetching Google Places data for: {} {}", title, address, e);
             return null;
         }
     }
 
-    private String searchPlace(String title, String address) {
+    // 논블로킹 버전 - 장소를 못 찾으면 empty, API 오류는 error
+    public Mono<PlaceReview> getPlaceDataAsync(String title, String address) {
+        // 1. Text Search로 장소 찾기 -> 2. Place Details로 별점 및 리뷰 가져오기
+        return searchPlace(title, address)
+                .flatMap(this::getPlaceDetailsAsync);
+    }
+
+    private Mono<String> searchPlace(String title, String address) {
         String query = title + " " + address;
         Map<String, Object> params = Map.of(
                 "query", query,
@@ -49,32 +67,25 @@ public class GooglePlacesService {
                 "language", "ko"
         );
 
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path("/textsearch/json");
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.path("results");
-
-            if (results.isArray() && results.size() > 0) {
-                return results.get(0).path("place_id").asText();
-            }
-            return null;
-        } catch (Exception e) {
-            log.error("Error searching place: {}", query, e);
-            return null;
-        }
+        return throttled(request("/textsearch/json", params))
+                .<String>handle((response, sink) -> {
+                    try {
+                        JsonNode root = objectMapper.readTree(response);
+                        if (checkStatus(root, "ZERO_RESULTS", "textsearch")) {
+                            JsonNode results = root.path("results");
+                            if (results.isArray() && results.size() > 0) {
+                                sink.next(results.get(0).path("place_id").asText());
+                            }
+                        }
+                    } catch (Exception e) {
+                        log.error("Error searching place: {}", query, e);
+                        sink.error(e);
+                    }
+                });
     }
 
-    private PlaceReview getPlaceDetails(String placeId) {
+    // 이미 알고 있는 place_id 로 Place Details 만 조회 - 없는 place_id 면 empty, API 오류는 error
+    public Mono<PlaceReview> getPlaceDetailsAsync(String placeId) {
         Map<String, Object> params = Map.of(
                 "place_id", placeId,
                 "fields", "rating,reviews,user_ratings_total",
@@ -82,56 +93,85 @@ public class GooglePlacesService {
                 "language", "ko"
         );
 
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> {
-                        uriBuilder.path("/details/json");
-                        params.forEach(uriBuilder::queryParam);
-                        return uriBuilder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-
-            return parsePlaceDetails(response, placeId);
-        } catch (Exception e) {
-            log.error("Error getting place details for: {}", placeId, e);
-            return null;
+        return throttled(request("/details/json", params))
+                .<PlaceReview>handle((response, sink) -> {
+                    try {
+                        JsonNode root = objectMapper.readTree(response);
+                        if (checkStatus(root, "NOT_FOUND", "details")) {
+                            sink.next(parsePlaceDetails(root.path("result"), placeId));
+                        }
+                    } catch (Exception e) {
+                        log.error("Error getting place details for: {}", placeId, e);
+                        sink.error(e);
+                    }
+                });
+    }
+
+    /** OK 면 true, notFoundStatus 면 false(결과 없음), 그 외 상태는 예외 */
+    private boolean checkStatus(JsonNode root, String notFoundStatus, String endpoint) {
+        String status = root.path("status").asText("OK");
+        if ("OK".equals(status)) {
+            return true;
+        }
+        if (notFoundStatus.equals(status)) {
+            return false;
         }
+        if ("OVER_QUERY_LIMIT".equals(status)) {
+            throw new ApiLimitExceededException("Google Places 호출 한도 초과 (" + endpoint + ")");
+        }
+        throw new IllegalStateException("Google Places " + endpoint + " failed - status: " + status
+                + ", message: " + root.path("error_message").asText(""));
     }
 
-    private PlaceReview parsePlaceDetails(String response, String placeId) {
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode result = root.path("result");
+    private Mono<String> request(String path, Map<String, Object> params) {
+        return webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(path);
+                    params.forEach(uriBuilder::queryParam);
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(10));
+    }
+
+    // 구독 시점에 발송 슬롯을 예약하고, 슬롯이 올 때까지 지연 후 요청
+    private Mono<String> throttled(Mono<String> request) {
+        if (maxQps <= 0) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            long interval = 1_000_000_000L / maxQps;
+            long now = System.nanoTime();
+            long slot = nextRequestAt.updateAndGet(next -> Math.max(next, now) + interval) - interval;
+            long waitNanos = slot - now;
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(request) : request;
+        });
+    }
 
-            double rating = result.path("rating").asDouble(0.0);
-            int reviewCount = result.path("user_ratings_total").asInt(0);
+    // 별점이 없는 장소는 rating null (0.0 으로 저장하지 않음)
+    private PlaceReview parsePlaceDetails(JsonNode result, String placeId) {
+        Double rating = result.hasNonNull("rating") ? result.path("rating").asDouble() : null;
+        int reviewCount = result.path("user_ratings_total").asInt(0);
 
-            List<String> reviews = new ArrayList<>();
-            JsonNode reviewsNode = result.path("reviews");
+        List<String> reviews = new ArrayList<>();
+        JsonNode reviewsNode = result.path("reviews");
 
-            if (reviewsNode.isArray()) {
-                for (int i = 0; i < Math.min(10, reviewsNode.size()); i++) {
-                    JsonNode review = reviewsNode.get(i);
-                    String text = review.path("text").asText();
-                    if (!text.isEmpty()) {
-                        reviews.add(text);
-                    }
+        if (reviewsNode.isArray()) {
+            for (int i = 0; i < Math.min(10, reviewsNode.size()); i++) {
+                JsonNode review = reviewsNode.get(i);
+                String text = review.path("text").asText();
+                if (!text.isEmpty()) {
+                    reviews.add(text);
                 }
             }
-
-            return PlaceReview.builder()
-                    .placeId(placeId)
-                    .rating(rating)
-                    .reviewCount(reviewCount)
-                    .reviews(reviews)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("Error parsing place details", e);
-            return null;
         }
+
+        return PlaceReview.builder()
+                .placeId(placeId)
+                .rating(rating)
+                .reviewCount(reviewCount)
+                .reviews(reviews)
+                .build();
     }
-}
\ No newline at end of file
+}
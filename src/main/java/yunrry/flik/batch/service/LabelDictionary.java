@@ -0,0 +1,142 @@
+package yunrry.flik.batch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * label 테이블(분류체계 1~3 depth) 메모리 인덱스
+ * - 시작 시 전체 로드, 주기적으로(또는 관리 API 로) 다시 읽어 통째로 교체
+ * - 조회는 불변 스냅샷만 읽으므로 동시 호출에 안전하고 DB 왕복 없음
+ * - 로드에 실패한 상태에서만 DB 를 직접 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LabelDictionary {
+
+    private static final int MAX_DEPTH = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // depth(1~3) -> code -> name, 새로고침 시 참조만 교체
+    private volatile Map<Integer, Map<String, String>> index;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter fallbackCounter;
+
+    @PostConstruct
+    void init() {
+        hitCounter = lookupCounter("hit");
+        missCounter = lookupCounter("miss");
+        fallbackCounter = lookupCounter("db");
+        Gauge.builder("label.dictionary.size", this, LabelDictionary::size)
+                .description("메모리에 적재된 라벨 수")
+                .register(meterRegistry);
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${label-dictionary.refresh-interval-ms:3600000}",
+            initialDelayString = "${label-dictionary.refresh-interval-ms:3600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /** label 테이블을 다시 읽어 인덱스 교체 (실패 시 기존 인덱스 유지), 적재된 라벨 수 반환 */
+    public int refresh() {
+        try {
+            Map<Integer, Map<String, String>> loaded = new HashMap<>();
+            for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+                loaded.put(depth, new HashMap<>());
+            }
+            jdbcTemplate.query("SELECT depth, code, name FROM label", rs -> {
+                Map<String, String> byCode = loaded.get(rs.getInt("depth"));
+                if (byCode != null && rs.getString("code") != null) {
+                    // 기존 조회와 같이 코드가 중복되면 처음 읽은 값 사용
+                    String name = rs.getString("name");
+                    byCode.putIfAbsent(rs.getString("code"), name != null ? name : "");
+                }
+            });
+
+            Map<Integer, Map<String, String>> snapshot = new HashMap<>();
+            loaded.forEach((depth, byCode) -> snapshot.put(depth, Map.copyOf(byCode)));
+            index = Map.copyOf(snapshot);
+
+            int size = size();
+            log.info("Label dictionary loaded - labels: {}", size);
+            return size;
+        } catch (Exception e) {
+            log.error("Failed to load label dictionary, keeping previous index", e);
+            return size();
+        }
+    }
+
+    /** depth1~3 코드의 라벨명 (없는 코드는 빈 문자열, 코드가 비어 있으면 키 자체를 넣지 않음) */
+    public Map<String, String> findLabelNames(String code1, String code2, String code3) {
+        Map<String, String> result = new HashMap<>();
+        putName(result, "depth1", 1, code1);
+        putName(result, "depth2", 2, code2);
+        putName(result, "depth3", 3, code3);
+        return result;
+    }
+
+    public int size() {
+        Map<Integer, Map<String, String>> current = index;
+        if (current == null) {
+            return 0;
+        }
+        return current.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void putName(Map<String, String> result, String key, int depth, String code) {
+        if (code == null || code.isEmpty()) {
+            return;
+        }
+        result.put(key, lookup(depth, code));
+    }
+
+    private String lookup(int depth, String code) {
+        Map<Integer, Map<String, String>> current = index;
+        if (current == null) {
+            fallbackCounter.increment();
+            return queryName(depth, code);
+        }
+
+        String name = current.get(depth).get(code);
+        if (name == null) {
+            missCounter.increment();
+            return "";
+        }
+        hitCounter.increment();
+        return name;
+    }
+
+    private String queryName(int depth, String code) {
+        try {
+            return jdbcTemplate.queryForList("SELECT name FROM label WHERE code = ? AND depth = ?",
+                            String.class, code, depth)
+                    .stream().findFirst().orElse("");
+        } catch (Exception e) {
+            log.error("Error finding label name - depth: {}, code: {}", depth, code, e);
+            return "";
+        }
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("label.dictionary.lookups")
+                .description("라벨명 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,45 +1,227 @@
 package yunrry.flik.batch.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import yunrry.flik.batch.exception.RateLimitExceededException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * TourAPI 일일 호출 한도 관리
+ * - 서비스키 + 엔드포인트별 토큰 버킷을 Redis Lua 스크립트로 원자적으로 차감 (blue/green 공용)
+ * - 버킷은 매일 자정(KST) 용량만큼 채워짐 (data.go.kr 한도 초기화 주기와 동일)
+ * - 인스턴스는 lease-size 만큼 미리 임대받아 로컬에서 소진하고, 스텝 종료 시 남은 토큰 반환
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RateLimitService {
 
+    public static final String AREA_BASED_LIST = "areaBasedList2";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Duration BUCKET_TTL = Duration.ofDays(2);
+
+    // KEYS[1]=버킷, KEYS[2]=일일 누적 호출 수 / ARGV[1]=용량, ARGV[2]=요청 토큰 수, ARGV[3]=TTL(초)
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = redis.call('GET', KEYS[1])
+            if not tokens then tokens = tonumber(ARGV[1]) else tokens = tonumber(tokens) end
+            local granted = math.max(0, math.min(tokens, tonumber(ARGV[2])))
+            redis.call('SET', KEYS[1], tokens - granted, 'EX', ARGV[3])
+            if granted > 0 then
+                redis.call('INCRBY', KEYS[2], granted)
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            return granted
+            """, Long.class);
+
+    // 미사용 토큰 반환 (용량 초과분은 버림)
+    private static final RedisScript<Long> RETURN_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = redis.call('GET', KEYS[1])
+            if not tokens then return 0 end
+            tokens = tonumber(tokens)
+            local refill = math.max(0, math.min(tonumber(ARGV[1]) - tokens, tonumber(ARGV[2])))
+            if refill > 0 then
+                local ttl = redis.call('PTTL', KEYS[1])
+                if ttl > 0 then
+                    redis.call('SET', KEYS[1], tokens + refill, 'PX', ttl)
+                else
+                    redis.call('SET', KEYS[1], tokens + refill)
+                end
+                local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+                if used > 0 then
+                    redis.call('DECRBY', KEYS[2], math.min(used, refill))
+                end
+            end
+            return refill
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 서비스키 + 엔드포인트별 일일 한도
     @Value("${rate-limit.tourism-api.daily-limit:600}")
     private int DAILY_LIMIT;
 
-    public void checkRateLimit() throws RateLimitExceededException {
-        if (!canMakeRequest()) {
-            int remaining = getRemainingCount();
+    // 한 번에 임대받는 토큰 수 (청크 크기 정도)
+    @Value("${rate-limit.tourism-api.lease-size:10}")
+    private int leaseSize;
+
+    @Value("${tourism-api.service-key}")
+    private String defaultServiceKey;
+
+    // "날짜|키ID|엔드포인트" -> 로컬에 남은 임대 토큰
+    private final Map<String, AtomicInteger> leases = new ConcurrentHashMap<>();
+    private final Map<String, String> keyIds = new ConcurrentHashMap<>();
+
+    /** 남은 한도 확인 (로컬 임대분이 있으면 Redis 조회 없음) */
+    public void checkRateLimit(String serviceKey, String endpoint) throws RateLimitExceededException {
+        if (!canMakeRequest(serviceKey, endpoint)) {
             throw new RateLimitExceededException(
-                    String.format("Daily API limit exceeded. Remaining: %d", remaining));
+                    String.format("Daily API limit exceeded. endpoint: %s, remaining: 0", endpoint));
         }
     }
 
-    public boolean canMakeRequest() {
-        return getCurrentCount() < DAILY_LIMIT;
+    public boolean canMakeRequest(String serviceKey, String endpoint) {
+        AtomicInteger lease = leases.get(leaseKey(today(), keyId(serviceKey), endpoint));
+        return (lease != null && lease.get() > 0) || getRemainingCount(serviceKey, endpoint) > 0;
+    }
+
+    /**
+     * 실제 호출 1건에 대한 토큰 차감
+     * 로컬 임대분에서 차감하고, 모자라면 Redis 에서 leaseSize 만큼 새로 임대
+     */
+    public boolean tryAcquire(String serviceKey, String endpoint) {
+        String date = today();
+        String keyId = keyId(serviceKey);
+        AtomicInteger lease = leases.computeIfAbsent(leaseKey(date, keyId, endpoint), k -> new AtomicInteger());
+
+        while (true) {
+            int available = lease.get();
+            if (available > 0) {
+                if (lease.compareAndSet(available, available - 1)) {
+                    return true;
+                }
+                continue;
+            }
+
+            synchronized (lease) {
+                if (lease.get() > 0) {
+                    continue;
+                }
+                long granted = leaseFromRedis(date, keyId, endpoint, leaseSize);
+                if (granted <= 0) {
+                    return false;
+                }
+                lease.addAndGet((int) granted - 1);
+                return true;
+            }
+        }
     }
 
+    /** 로컬 임대 후 사용하지 않은 토큰을 Redis 버킷으로 반환 (스텝 종료 시 호출) */
+    public void releaseLeases() {
+        leases.forEach((leaseKey, lease) -> {
+            int unused = lease.getAndSet(0);
+            if (unused <= 0) {
+                return;
+            }
+            String[] parts = leaseKey.split("\\|", 3);
+            try {
+                Long refilled = redisTemplate.execute(RETURN_SCRIPT,
+                        List.of(bucketKey(parts[0], parts[1], parts[2]), totalKey(parts[0])),
+                        String.valueOf(DAILY_LIMIT), String.valueOf(unused));
+                log.debug("Returned {} unused permits - endpoint: {}, refilled: {}", unused, parts[2], refilled);
+            } catch (Exception e) {
+                log.warn("Failed to return unused permits - endpoint: {}, count: {}", parts[2], unused, e);
+            }
+        });
+        // 지난 날짜의 임대 항목 정리
+        String date = today();
+        leases.keySet().removeIf(key -> !key.startsWith(date + "|"));
+    }
 
+    @PreDestroy
+    public void shutdown() {
+        releaseLeases();
+    }
+
+    public boolean canMakeRequest() {
+        return getRemainingCount() > 0;
+    }
+
+    // 오늘 실제로 임대(차감)된 전체 호출 수
     public int getCurrentCount() {
-        String key = "tourism-api:" + LocalDate.now();
-        String countStr = redisTemplate.opsForValue().get(key);
+        String countStr = redisTemplate.opsForValue().get(totalKey(today()));
         return countStr != null ? Integer.parseInt(countStr) : 0;
     }
 
+    // 기본 서비스키의 목록 조회(areaBasedList2) 잔여 한도
     public int getRemainingCount() {
-        return DAILY_LIMIT - getCurrentCount();
+        return getRemainingCount(defaultServiceKey, AREA_BASED_LIST);
+    }
+
+    public int getRemainingCount(String serviceKey, String endpoint) {
+        String tokens = redisTemplate.opsForValue().get(bucketKey(today(), keyId(serviceKey), endpoint));
+        int remaining = tokens != null ? Integer.parseInt(tokens) : DAILY_LIMIT;
+        AtomicInteger lease = leases.get(leaseKey(today(), keyId(serviceKey), endpoint));
+        return remaining + (lease != null ? lease.get() : 0);
+    }
+
+    public int getDailyLimit() {
+        return DAILY_LIMIT;
+    }
+
+    private long leaseFromRedis(String date, String keyId, String endpoint, int count) {
+        Long granted = redisTemplate.execute(LEASE_SCRIPT,
+                List.of(bucketKey(date, keyId, endpoint), totalKey(date)),
+                String.valueOf(DAILY_LIMIT), String.valueOf(count), String.valueOf(BUCKET_TTL.toSeconds()));
+        long result = granted != null ? granted : 0L;
+        log.debug("Leased {} permits - endpoint: {}, requested: {}", result, endpoint, count);
+        return result;
+    }
+
+    private String bucketKey(String date, String keyId, String endpoint) {
+        return "tourism-api:quota:" + date + ":" + keyId + ":" + endpoint;
+    }
+
+    private String totalKey(String date) {
+        return "tourism-api:" + date;
+    }
+
+    private String leaseKey(String date, String keyId, String endpoint) {
+        return date + "|" + keyId + "|" + endpoint;
+    }
+
+    private String today() {
+        return LocalDate.now(KST).toString();
+    }
+
+    // 서비스키 원문을 Redis 키에 남기지 않도록 해시 앞자리만 사용
+    private String keyId(String serviceKey) {
+        String key = serviceKey != null ? serviceKey : "";
+        return keyIds.computeIfAbsent(key, k -> {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(k.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 6);
+            } catch (NoSuchAlgorithmException e) {
+                return Integer.toHexString(k.hashCode());
+            }
+        });
     }
-}
\ No newline at end of file
+}
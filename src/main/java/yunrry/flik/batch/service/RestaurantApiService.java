@@ -2,6 +2,7 @@ package yunrry.flik.batch.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,7 @@ public class RestaurantApiService {
 
     private final ObjectMapper objectMapper;
     private final TourismDataRepository tourismDataRepository;
+    private final WebClient tourApiWebClient;
 
     @Value("${tourism-api.base-url}")
     private String baseUrl;
@@ -31,9 +33,6 @@ public class RestaurantApiService {
     @Value("${tourism-api.service-key}")
     private String serviceKey;
 
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("http://apis.data.go.kr/B551011/KorService2")
-            .build();
 
     // ApiService.java
     public List<TourismRawData> fetchAreaBasedList(int pageNo, String areaCode, String serviceKeyParam) {
@@ -50,7 +49,7 @@ public class RestaurantApiService {
         );
 
         try {
-            String response = webClient.get()
+            String response = tourApiWebClient.get()
                     .uri(uriBuilder -> {
                         uriBuilder.path("/areaBasedList2");
                         params.forEach(uriBuilder::queryParam);
@@ -69,7 +68,8 @@ public class RestaurantApiService {
     }
 
 
-    public Map<String, Object> fetchDetailIntro(String contentId, String contentTypeId, String serviceKeyParam) {
+    // 응답 item 노드를 그대로 반환 (FieldMapper 가 노드에서 바로 매핑, 실패 시 MissingNode)
+    public JsonNode fetchDetailIntro(String contentId, String contentTypeId, String serviceKeyParam) {
         Map<String, Object> params = Map.of(
                 "serviceKey", serviceKeyParam,
                 "contentId", contentId,
@@ -80,7 +80,7 @@ public class RestaurantApiService {
         );
 
         try {
-            String response = webClient.get()
+            String response = tourApiWebClient.get()
                     .uri(uriBuilder -> {
                         uriBuilder.path("/detailIntro2");
                         params.forEach(uriBuilder::queryParam);
@@ -94,7 +94,7 @@ public class RestaurantApiService {
             return parseDetailIntroResponse(response);
         } catch (Exception e) {
             log.error("Error fetching detail intro for contentId: {}", contentId, e);
-            return Collections.emptyMap();
+            return MissingNode.getInstance();
         }
     }
 
@@ -177,13 +177,13 @@ public class RestaurantApiService {
         }
     }
 
-    private Map<String, Object> parseDetailIntroResponse(String response) {
+    private JsonNode parseDetailIntroResponse(String response) {
         try {
             JsonNode root = objectMapper.readTree(response);
             JsonNode items = root.path("response").path("body").path("items");
 
             if (items.isMissingNode() || !items.has("item")) {
-                return Collections.emptyMap();
+                return MissingNode.getInstance();
             }
 
             JsonNode item = items.path("item");
@@ -191,10 +191,10 @@ public class RestaurantApiService {
                 item = item.get(0);
             }
 
-            return convertToMap(item);
+            return item;
         } catch (Exception e) {
             log.error("Error parsing detail intro response", e);
-            return Collections.emptyMap();
+            return MissingNode.getInstance();
         }
     }
 
@@ -226,7 +226,7 @@ public class RestaurantApiService {
         );
 
         try {
-            String response = webClient.get()
+            String response = tourApiWebClient.get()
                     .uri(uriBuilder -> {
                         uriBuilder.path("/detailCommon2");
                         params.forEach(uriBuilder::queryParam);
@@ -1,50 +1,100 @@
 // java
 package yunrry.flik.batch.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * detailImage2 원본 이미지 URL 조회
+ * - subImageYN 미지원 응답을 한 번 받으면 이번 실행 동안은 subImageYN 없이 바로 호출 (아이템마다 2회 호출 방지)
+ * - 응답 캐시는 버전 없는 짧은 TTL 항목만 사용 (이미지 목록 갱신은 TTL 만료 후 반영)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SpotImageApiClient {
 
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final WebClient tourApiWebClient;
+    private final TourApiResponseCache responseCache;
+
+    @Value("${tourism-api.base-url}")
+    private String baseUrl;
 
     @Value("${tourism-api.service-key}")
     private String serviceKey;
 
+    // 이번 실행에서 subImageYN 미지원 응답을 받았는지 (resetSubImageSupport 로 초기화)
+    private volatile boolean subImageUnsupported = false;
+
+    /** 실행 시작 시 호출 - subImageYN 지원 여부를 다시 확인하도록 초기화 */
+    public void resetSubImageSupport() {
+        subImageUnsupported = false;
+    }
+
     public List<String> fetchOriginImageUrls(String contentId) {
-        try {
-            // 1차: subImageYN 포함 호출
-            return doFetch(contentId, true);
-        } catch (Exception e) {
-            log.error("이미지 API 호출 실패 contentId={}", contentId, e);
-            return List.of();
-        }
+        return fetchOriginImageUrlsAsync(contentId).block();
+    }
+
+    // 논블로킹 버전 - 청크 단위 동시 조회에서 사용 (실패 시 빈 목록)
+    public Mono<List<String>> fetchOriginImageUrlsAsync(String contentId) {
+        // 1차: 미지원으로 확인되기 전까지는 subImageYN 포함 호출
+        return fetch(contentId, !subImageUnsupported)
+                .onErrorResume(e -> {
+                    log.error("이미지 API 호출 실패 contentId={}", contentId, e);
+                    return Mono.just(List.of());
+                });
     }
 
-    private List<String> doFetch(String contentId, boolean includeSubImage) throws Exception {
+    private Mono<List<String>> fetch(String contentId, boolean includeSubImage) {
         URI uri = buildUri(contentId, includeSubImage);
-        ResponseEntity<String> resp = restTemplate.getForEntity(uri, String.class);
-        if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
-            log.warn("API 응답 실패 contentId={}, status={}", contentId, resp.getStatusCode());
-            return List.of();
-        }
+        Mono<String> request = tourApiWebClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(30));
+        // spots 에는 modifiedtime 컬럼이 없어 버전 없는 키(unversioned-ttl-hours)로만 캐시
+        // - image_urls 가 비어 있는 스팟만 조회하므로 TTL 동안 이전 이미지 목록(빈 목록 포함)이 쓰여도 허용
+        String endpoint = includeSubImage ? "detailImage2" : "detailImage2:noSub";
+        return responseCache.getOrFetch(endpoint, contentId, null, request)
+                .flatMap(bodyText -> {
+                    List<String> urls;
+                    try {
+                        urls = parse(contentId, bodyText, includeSubImage);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(e);
+                    }
+                    if (urls != null) {
+                        return Mono.just(urls);
+                    }
+                    if (!subImageUnsupported) {
+                        subImageUnsupported = true;
+                        log.info("subImageYN 미지원 - 이번 실행은 subImageYN 없이 호출");
+                    }
+                    log.info("subImageYN 미지원으로 재시도: contentId={}", contentId);
+                    return fetch(contentId, false);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("API 응답 실패 contentId={}", contentId);
+                    return List.of();
+                }));
+    }
 
-        String bodyText = resp.getBody();
+    /** 응답 본문에서 URL 목록 추출, subImageYN 미지원 오류면 null (subImageYN 없이 재호출 필요) */
+    private List<String> parse(String contentId, String bodyText, boolean includeSubImage) throws JsonProcessingException {
         JsonNode root = objectMapper.readTree(bodyText);
 
         // 플랫 오류 스키마 처리
@@ -52,8 +102,7 @@ public class SpotImageApiClient {
             String code = root.path("resultCode").asText();
             String msg = root.path("resultMsg").asText();
             if (includeSubImage && msg != null && msg.contains("subImageYN")) {
-                log.info("subImageYN 미지원으로 재시도: contentId={}", contentId);
-                return doFetch(contentId, false);
+                return null;
             }
             log.warn("API 오류: contentId={}, resultCode={}, resultMsg={}", contentId, code, msg);
             return List.of();
@@ -68,8 +117,7 @@ public class SpotImageApiClient {
 
             if (!"0000".equals(resultCode)) {
                 if (includeSubImage && resultMsg != null && resultMsg.contains("subImageYN")) {
-                    log.info("subImageYN 미지원으로 재시도: contentId={}", contentId);
-                    return doFetch(contentId, false);
+                    return null;
                 }
                 log.warn("API 오류: contentId={}, resultCode={}, resultMsg={}", contentId, resultCode, resultMsg);
                 return List.of();
@@ -111,8 +159,7 @@ public class SpotImageApiClient {
 
         // 스키마 불일치(예: 플랫 에러 메시지) 폴백
         if (includeSubImage && bodyText.contains("INVALID_REQUEST_PARAMETER_ERROR(subImageYN)")) {
-            log.info("subImageYN 미지원으로 재시도: contentId={}", contentId);
-            return doFetch(contentId, false);
+            return null;
         }
 
         String snippet = bodyText.length() > 512 ? bodyText.substring(0, 512) + "..." : bodyText;
@@ -122,7 +169,7 @@ public class SpotImageApiClient {
 
     private URI buildUri(String contentId, boolean includeSubImage) {
         UriComponentsBuilder b = UriComponentsBuilder
-                .fromHttpUrl("https://apis.data.go.kr/B551011/KorService2/detailImage2")
+                .fromHttpUrl(baseUrl + "/detailImage2")
                 .queryParam("MobileOS", "WEB")
                 .queryParam("MobileApp", "FLIK")
                 .queryParam("contentId", contentId)
@@ -0,0 +1,145 @@
+package yunrry.flik.batch.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import yunrry.flik.batch.exception.RateLimitExceededException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TourAPI 서비스키 풀
+ * - 설정된 모든 키(service-key, service-second-key)를 하나의 용량으로 사용
+ * - 엔드포인트별로 잔여 한도가 가장 많은 키부터 시도
+ * - LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR 를 받은 키는 당일(KST) 해당 엔드포인트에서 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiKeyPool {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final RateLimitService rateLimitService;
+
+    @Value("${tourism-api.service-key}")
+    private String primaryKey;
+
+    @Value("${tourism-api.service-second-key:}")
+    private String secondKey;
+
+    // 잔여 한도 순서 재계산 주기 (매 요청마다 Redis 조회하지 않도록)
+    @Value("${tourism-api.key-pool.refresh-interval-ms:5000}")
+    private long refreshIntervalMs;
+
+    private final List<String> keys = new ArrayList<>();
+    // "키|엔드포인트" -> 제외된 날짜
+    private final Map<String, LocalDate> exhausted = new ConcurrentHashMap<>();
+    private final Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+
+    private record Ranking(List<String> keys, long expiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        for (String key : new String[]{primaryKey, secondKey}) {
+            // 미설정(빈 값) 키는 제외
+            if (key != null && !key.isBlank() && !keys.contains(key)) {
+                keys.add(key);
+            }
+        }
+        log.info("TourAPI key pool initialized - keys: {}", keys.size());
+    }
+
+    /**
+     * 요청에 사용할 키 후보 (잔여 한도 내림차순)
+     * 호출자가 지정한 키가 풀에 없으면 후보에 함께 포함
+     */
+    public List<String> candidates(String endpoint, String requestedKey) {
+        List<String> ranked = rank(endpoint);
+        Set<String> result = new LinkedHashSet<>(ranked);
+        if (requestedKey != null && !requestedKey.isBlank() && !isExhausted(requestedKey, endpoint)) {
+            result.add(requestedKey);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /** 한도 초과 응답을 받은 키를 당일 로테이션에서 제외 */
+    public void markExhausted(String key, String endpoint) {
+        if (key == null) {
+            return;
+        }
+        LocalDate previous = exhausted.put(exhaustedKey(key, endpoint), LocalDate.now(KST));
+        rankings.remove(endpoint);
+        if (previous == null) {
+            log.warn("Service key removed from rotation for today - endpoint: {}", endpoint);
+        }
+    }
+
+    /** 풀 전체 기준 한도 확인 (리더의 페이지 조회 전 확인용) */
+    public void checkRateLimit(String requestedKey, String endpoint) throws RateLimitExceededException {
+        for (String key : candidates(endpoint, requestedKey)) {
+            if (rateLimitService.canMakeRequest(key, endpoint)) {
+                return;
+            }
+        }
+        throw new RateLimitExceededException(
+                String.format("Daily API limit exceeded for all service keys. endpoint: %s", endpoint));
+    }
+
+    public int getRemainingCount(String endpoint) {
+        int total = 0;
+        for (String key : rank(endpoint)) {
+            total += Math.max(0, rateLimitService.getRemainingCount(key, endpoint));
+        }
+        return total;
+    }
+
+    private List<String> rank(String endpoint) {
+        long now = System.currentTimeMillis();
+        Ranking ranking = rankings.get(endpoint);
+        if (ranking != null && ranking.expiresAt() > now) {
+            return ranking.keys();
+        }
+
+        Map<String, Integer> remaining = new HashMap<>();
+        List<String> active = new ArrayList<>();
+        for (String key : keys) {
+            if (isExhausted(key, endpoint)) {
+                continue;
+            }
+            try {
+                remaining.put(key, rateLimitService.getRemainingCount(key, endpoint));
+            } catch (Exception e) {
+                log.warn("Failed to read remaining quota - endpoint: {}", endpoint, e);
+                remaining.put(key, 0);
+            }
+            active.add(key);
+        }
+        active.sort(Comparator.comparing((String key) -> remaining.get(key)).reversed());
+
+        List<String> ranked = List.copyOf(active);
+        rankings.put(endpoint, new Ranking(ranked, now + refreshIntervalMs));
+        return ranked;
+    }
+
+    private boolean isExhausted(String key, String endpoint) {
+        LocalDate date = exhausted.get(exhaustedKey(key, endpoint));
+        return date != null && date.equals(LocalDate.now(KST));
+    }
+
+    private String exhaustedKey(String key, String endpoint) {
+        return key + "|" + endpoint;
+    }
+}
@@ -0,0 +1,177 @@
+package yunrry.flik.batch.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TourAPI 상세 응답 2단 캐시 (프로세스 내 LRU -> Redis)
+ * - 키: endpoint + contentId + modifiedtime (원본이 바뀌면 키가 바뀌므로 무효화 불필요)
+ * - modifiedtime 을 모르는 호출은 짧은 TTL 로만 캐시
+ * - 한도 초과/오류 응답은 캐시하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiResponseCache {
+
+    private static final String KEY_PREFIX = "tourapi:response:";
+    private static final String NO_VERSION = "-";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tourism-api.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism-api.cache.local-max-entries:2000}")
+    private int localMaxEntries;
+
+    @Value("${tourism-api.cache.ttl-days:90}")
+    private long ttlDays;
+
+    @Value("${tourism-api.cache.unversioned-ttl-hours:24}")
+    private long unversionedTtlHours;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private Map<String, String> local;
+
+    @PostConstruct
+    void init() {
+        // access-order LinkedHashMap 기반 LRU (최대 엔트리 수 초과 시 가장 오래된 항목 제거)
+        local = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > localMaxEntries;
+            }
+        });
+        log.info("TourAPI response cache - enabled: {}, localMaxEntries: {}, ttl: {}d", enabled, localMaxEntries, ttlDays);
+    }
+
+    /** 캐시 조회 후 없으면 fetch 결과를 저장하여 반환 */
+    public Mono<String> getOrFetch(String endpoint, String contentId, String modifiedTime, Mono<String> fetch) {
+        if (!enabled || contentId == null || contentId.isBlank()) {
+            return fetch;
+        }
+
+        String key = buildKey(endpoint, contentId, modifiedTime);
+        String cached = local.get(key);
+        if (cached != null) {
+            count(endpoint, "local");
+            return Mono.just(cached);
+        }
+
+        // Redis 조회는 블로킹이므로 네트워크 스레드에서 실행하지 않음
+        return Mono.fromCallable(() -> readRedis(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(body -> {
+                    count(endpoint, "redis");
+                    local.put(key, body);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    count(endpoint, "miss");
+                    return fetch.doOnNext(body -> store(key, modifiedTime, body));
+                }));
+    }
+
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("Redis cache read failed - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String modifiedTime, String body) {
+        if (!isCacheable(body)) {
+            return;
+        }
+        local.put(key, body);
+
+        Duration ttl = isVersioned(modifiedTime)
+                ? Duration.ofDays(ttlDays)
+                : Duration.ofHours(unversionedTtlHours);
+        Mono.fromRunnable(() -> {
+                    try {
+                        redisTemplate.opsForValue().set(key, body, ttl);
+                    } catch (Exception e) {
+                        log.warn("Redis cache write failed - key: {}, error: {}", key, e.getMessage());
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    // 정상 JSON 응답만 저장 (XML 에러 봉투, 한도 초과, resultCode != 0000 제외)
+    private boolean isCacheable(String body) {
+        if (body == null || body.isBlank() || !body.stripLeading().startsWith("{")) {
+            return false;
+        }
+        return "0000".equals(readResultCode(body));
+    }
+
+    // response.header.resultCode 만 스트리밍으로 찾고 중단 (공백/필드 순서와 무관, 본문 트리는 만들지 않음)
+    private String readResultCode(String body) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token.isScalarValue() && "resultCode".equals(parser.currentName())
+                        && isResponseHeader(parser.getParsingContext().getParent())) {
+                    return parser.getText();
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            log.debug("Unparseable TourAPI response, not caching: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 컨텍스트의 현재 필드명은 그 안에 열린 객체의 이름 (response -> header -> resultCode)
+    private boolean isResponseHeader(JsonStreamContext headerParent) {
+        if (headerParent == null || !"header".equals(headerParent.getCurrentName())) {
+            return false;
+        }
+        JsonStreamContext responseParent = headerParent.getParent();
+        return responseParent != null && "response".equals(responseParent.getCurrentName())
+                && responseParent.getParent() != null && responseParent.getParent().inRoot();
+    }
+
+    private String buildKey(String endpoint, String contentId, String modifiedTime) {
+        return KEY_PREFIX + endpoint + ":" + contentId + ":"
+                + (isVersioned(modifiedTime) ? modifiedTime : NO_VERSION);
+    }
+
+    private boolean isVersioned(String modifiedTime) {
+        return modifiedTime != null && !modifiedTime.isBlank();
+    }
+
+    private void count(String endpoint, String result) {
+        counters.computeIfAbsent(endpoint + ":" + result, k -> Counter.builder("tourapi.cache.requests")
+                        .description("TourAPI 상세 응답 캐시 조회 결과")
+                        .tag("endpoint", endpoint)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,122 @@
+-- flik-batch-server 기존 DB 업그레이드 SQL (schema.sql 변경분)
+-- 파일 위치: src/main/resources/schema-upgrade.sql
+--
+-- schema.sql 은 CREATE TABLE IF NOT EXISTS 라 이미 있는 테이블에는 새 인덱스가 붙지 않고,
+-- spring.sql.init.mode 를 설정하지 않아(내장 DB 아님) 애플리케이션 시작 시 실행되지도 않음
+-- 배포 전에 대상 DB 에 직접 실행:
+--   mysql -h <host> -u <user> -p <database> < src/main/resources/schema-upgrade.sql
+-- 여러 번 실행해도 안전함 (테이블은 IF NOT EXISTS, 인덱스는 information_schema 에 없을 때만 추가)
+
+-- 10. spots 증분 마이그레이션 기준 시각
+CREATE TABLE IF NOT EXISTS spot_migration_watermark (
+                                                        source_table VARCHAR(100) PRIMARY KEY COMMENT '원본 fetched_* 테이블',
+                                                        last_updated_at TIMESTAMP NOT NULL COMMENT '마지막으로 이관한 행의 updated_at',
+                                                        migrated_count BIGINT DEFAULT 0 COMMENT '마지막 실행 이관 건수',
+                                                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='spots 증분 마이그레이션 기준 시각';
+
+-- 증분 마이그레이션 조회 (updated_at >= 기준 시각 ORDER BY updated_at)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_tourist_attractions' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_tourist_attractions ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_cultural_facilities' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_cultural_facilities ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_festivals_events' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_festivals_events ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_sports_recreation' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_sports_recreation ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_shopping' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_shopping ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_restaurants' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_restaurants ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_accommodations' AND index_name = 'idx_updated_at') = 0,
+               'ALTER TABLE fetched_accommodations ADD INDEX idx_updated_at (updated_at)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 11. Google Places 조회 결과(미발견/별점 없음) 네거티브 캐시
+CREATE TABLE IF NOT EXISTS google_place_lookup_outcome (
+                                                           source_table VARCHAR(100) NOT NULL COMMENT '원본 fetched_* 테이블',
+                                                           content_id VARCHAR(50) NOT NULL COMMENT '콘텐츠 ID',
+                                                           outcome ENUM('NOT_FOUND', 'NO_RATING') NOT NULL COMMENT '조회 결과',
+                                                           attempt_count INT NOT NULL DEFAULT 1 COMMENT '연속 조회 횟수',
+                                                           retry_after TIMESTAMP NOT NULL COMMENT '이 시각 이후 다시 조회',
+                                                           updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                                           PRIMARY KEY (source_table, content_id),
+                                                           INDEX idx_retry_after (retry_after)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Google Places 조회 결과 네거티브 캐시';
+
+-- Google Places 보강 keyset 조회 (google_rating IS NULL AND id 범위 ORDER BY id)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_tourist_attractions' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_tourist_attractions ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_cultural_facilities' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_cultural_facilities ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_sports_recreation' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_sports_recreation ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_shopping' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_shopping ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_restaurants' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_restaurants ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'fetched_accommodations' AND index_name = 'idx_google_rating_id') = 0,
+               'ALTER TABLE fetched_accommodations ADD INDEX idx_google_rating_id (google_rating, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -1,5 +1,6 @@
 -- flik-batch-server 테이블 초기화 SQL
 -- 파일 위치: src/main/resources/schema.sql
+-- 이미 운영 중인 DB 에 새 테이블/인덱스를 반영하려면 schema-upgrade.sql 실행
 USE flik_batch_db;
 
 -- 1. 관광지 데이터 테이블 (content_type_id: 12)
@@ -51,7 +52,9 @@ CREATE TABLE IF NOT EXISTS fetched_tourist_attractions (
 
                                                            INDEX idx_content_type (content_type_id),
                                                            INDEX idx_area (area_code, sigungu_code),
-                                                           INDEX idx_title (title(100))
+                                                           INDEX idx_title (title(100)),
+                                                           INDEX idx_google_rating_id (google_rating, id),
+                                                           INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 2. 문화시설 데이터 테이블 (content_type_id: 14)
@@ -99,7 +102,9 @@ CREATE TABLE IF NOT EXISTS fetched_cultural_facilities (
 
                                                            INDEX idx_content_type (content_type_id),
                                                            INDEX idx_area (area_code, sigungu_code),
-                                                           INDEX idx_title (title(100))
+                                                           INDEX idx_title (title(100)),
+                                                           INDEX idx_google_rating_id (google_rating, id),
+                                                           INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 3. 축제공연행사 데이터 테이블 (content_type_id: 15)
@@ -159,7 +164,8 @@ CREATE TABLE IF NOT EXISTS fetched_festivals_events (
 
                                                         INDEX idx_content_type (content_type_id),
                                                         INDEX idx_area (area_code, sigungu_code),
-                                                        INDEX idx_title (title(100))
+                                                        INDEX idx_title (title(100)),
+                                                        INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 4. 레포츠 데이터 테이블 (content_type_id: 28)
@@ -209,7 +215,9 @@ CREATE TABLE IF NOT EXISTS fetched_sports_recreation (
 
                                                          INDEX idx_content_type (content_type_id),
                                                          INDEX idx_area (area_code, sigungu_code),
-                                                         INDEX idx_title (title(100))
+                                                         INDEX idx_title (title(100)),
+                                                         INDEX idx_google_rating_id (google_rating, id),
+                                                         INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 5. 쇼핑 데이터 테이블 (content_type_id: 38)
@@ -261,7 +269,9 @@ CREATE TABLE IF NOT EXISTS fetched_shopping (
 
                                                 INDEX idx_content_type (content_type_id),
                                                 INDEX idx_area (area_code, sigungu_code),
-                                                INDEX idx_title (title(100))
+                                                INDEX idx_title (title(100)),
+                                                INDEX idx_google_rating_id (google_rating, id),
+                                                INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 6. 음식점 데이터 테이블 (content_type_id: 39)
@@ -316,7 +326,9 @@ CREATE TABLE IF NOT EXISTS fetched_restaurants (
 
                                                    INDEX idx_content_type (content_type_id),
                                                    INDEX idx_area (area_code, sigungu_code),
-                                                   INDEX idx_title (title(100))
+                                                   INDEX idx_title (title(100)),
+                                                   INDEX idx_google_rating_id (google_rating, id),
+                                                   INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 7. 숙박시설 데이터 테이블 (content_type_id: 32)
@@ -385,7 +397,9 @@ CREATE TABLE IF NOT EXISTS fetched_accommodations (
 
                                                       INDEX idx_content_type (content_type_id),
                                                       INDEX idx_area (area_code, sigungu_code),
-                                                      INDEX idx_title (title(100))
+                                                      INDEX idx_title (title(100)),
+                                                      INDEX idx_google_rating_id (google_rating, id),
+                                                      INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 8. 배치 작업 실행 로그 테이블
@@ -421,4 +435,25 @@ CREATE TABLE IF NOT EXISTS api_rate_limit_log (
 
                                                   UNIQUE KEY uk_api_date (api_name, call_date),
                                                   INDEX idx_call_date (call_date)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='API 호출 제한 로그';
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='API 호출 제한 로그';
+
+-- 10. spots 증분 마이그레이션 기준 시각
+CREATE TABLE IF NOT EXISTS spot_migration_watermark (
+                                                        source_table VARCHAR(100) PRIMARY KEY COMMENT '원본 fetched_* 테이블',
+                                                        last_updated_at TIMESTAMP NOT NULL COMMENT '마지막으로 이관한 행의 updated_at',
+                                                        migrated_count BIGINT DEFAULT 0 COMMENT '마지막 실행 이관 건수',
+                                                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='spots 증분 마이그레이션 기준 시각';
+
+-- 11. Google Places 조회 결과(미발견/별점 없음) - 재조회 시각 전까지 보강 대상에서 제외
+CREATE TABLE IF NOT EXISTS google_place_lookup_outcome (
+                                                           source_table VARCHAR(100) NOT NULL COMMENT '원본 fetched_* 테이블',
+                                                           content_id VARCHAR(50) NOT NULL COMMENT '콘텐츠 ID',
+                                                           outcome ENUM('NOT_FOUND', 'NO_RATING') NOT NULL COMMENT '조회 결과',
+                                                           attempt_count INT NOT NULL DEFAULT 1 COMMENT '연속 조회 횟수',
+                                                           retry_after TIMESTAMP NOT NULL COMMENT '이 시각 이후 다시 조회',
+                                                           updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                                           PRIMARY KEY (source_table, content_id),
+                                                           INDEX idx_retry_after (retry_after)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Google Places 조회 결과 네거티브 캐시';
@@ -0,0 +1,102 @@
+package yunrry.flik.batch.job.partitioner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.batch.item.ExecutionContext;
+import yunrry.flik.batch.job.reader.GooglePlacesKeysetItemReader;
+import yunrry.flik.batch.repository.GooglePlaceEnrichmentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * GooglePlacesIdRangePartitioner 구간 경계 검증
+ * - 빈 테이블, id 1개, gridSize 로 나누어떨어지지 않는 범위에서 구간이 빈틈/겹침 없이 [min, max] 를 덮는지
+ */
+class GooglePlacesIdRangePartitionerTest {
+
+    private static final String TABLE = "fetched_tourist_attractions";
+
+    @Test
+    @DisplayName("보강 대상이 없으면 아무 id 도 읽지 않는 빈 구간 파티션 1개")
+    void emptyTableYieldsSingleEmptyPartition() {
+        Map<String, ExecutionContext> partitions = partitioner(null).partition(4);
+
+        assertThat(partitions).containsOnlyKeys(TABLE + "-empty");
+        ExecutionContext context = partitions.get(TABLE + "-empty");
+        assertThat(minId(context)).isGreaterThan(maxId(context));
+    }
+
+    @Test
+    @DisplayName("대상 id 가 하나면 그 id 만 담은 파티션 1개")
+    void singleIdYieldsSinglePartition() {
+        Map<String, ExecutionContext> partitions = partitioner(new long[]{42, 42}).partition(4);
+
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.values().iterator().next();
+        assertThat(minId(context)).isEqualTo(42);
+        assertThat(maxId(context)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("gridSize 가 1 미만이면 전체 범위 파티션 1개")
+    void nonPositiveGridSizeYieldsSinglePartition() {
+        Map<String, ExecutionContext> partitions = partitioner(new long[]{1, 100}).partition(0);
+
+        assertThat(partitions).hasSize(1);
+        ExecutionContext context = partitions.values().iterator().next();
+        assertThat(minId(context)).isEqualTo(1);
+        assertThat(maxId(context)).isEqualTo(100);
+    }
+
+    @ParameterizedTest(name = "[{0}, {1}] / grid {2}")
+    @CsvSource({
+            "1, 10, 3",
+            "1, 3, 4",
+            "5, 6, 2",
+            "1, 100, 4",
+            "1, 101, 4",
+            "1000, 1999, 7",
+            "1, 2, 8"
+    })
+    @DisplayName("구간은 오름차순으로 빈틈/겹침 없이 [min, max] 를 덮고 개수는 gridSize 이하")
+    void rangesAreContiguousAndBounded(long min, long max, int gridSize) {
+        Map<String, ExecutionContext> partitions = partitioner(new long[]{min, max}).partition(gridSize);
+
+        List<long[]> ranges = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            ranges.add(new long[]{minId(context), maxId(context)});
+        }
+
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(gridSize);
+        assertThat(ranges.get(0)[0]).isEqualTo(min);
+        assertThat(ranges.get(ranges.size() - 1)[1]).isEqualTo(max);
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isLessThanOrEqualTo(ranges.get(i)[1]);
+            if (i > 0) {
+                assertThat(ranges.get(i)[0]).isEqualTo(ranges.get(i - 1)[1] + 1);
+            }
+        }
+    }
+
+    private GooglePlacesIdRangePartitioner partitioner(long[] pendingRange) {
+        GooglePlaceEnrichmentRepository repository = mock(GooglePlaceEnrichmentRepository.class);
+        when(repository.findPendingIdRange(TABLE)).thenReturn(pendingRange);
+        return new GooglePlacesIdRangePartitioner(repository, TABLE);
+    }
+
+    private long minId(ExecutionContext context) {
+        return context.getLong(GooglePlacesKeysetItemReader.CTX_MIN_ID);
+    }
+
+    private long maxId(ExecutionContext context) {
+        return context.getLong(GooglePlacesKeysetItemReader.CTX_MAX_ID);
+    }
+}
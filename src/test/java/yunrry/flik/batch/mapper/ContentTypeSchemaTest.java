@@ -0,0 +1,234 @@
+package yunrry.flik.batch.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ContentTypeSchema 의 미리 만든 SQL 과 bind* 메서드가 맞는지 검증
+ * - 모든 필드 값을 자기 컬럼명으로 채운 아이템을 바인딩해, 파라미터 i 에 SQL 의 i 번째 컬럼 값이 들어가는지 확인
+ *   (placeholder 수, 누락/중복 바인딩, 순서 어긋남을 한 번에 잡음)
+ * - detailIntro2 item 노드 매핑 (응답 키 fallback, null/누락 처리)
+ */
+class ContentTypeSchemaTest {
+
+    private static final Pattern ASSIGNMENT = Pattern.compile("(\\w+) = \\?");
+
+    @ParameterizedTest(name = "contentTypeId {0}")
+    @ValueSource(strings = {"12", "14", "15", "28", "32", "38", "39"})
+    @DisplayName("기본 정보 upsert: INSERT 컬럼 순서대로 바인딩")
+    void insertBindsInColumnOrder(String contentTypeId) throws SQLException {
+        ContentTypeSchema schema = ContentTypeSchema.of(contentTypeId);
+        TourismRawData item = itemNamedByColumns(schema);
+
+        List<String> bound = bind(ps -> schema.bindInsert(ps, item));
+
+        assertThat(bound).containsExactlyElementsOf(insertColumns(schema.getInsertSql()));
+    }
+
+    @ParameterizedTest(name = "contentTypeId {0}")
+    @ValueSource(strings = {"12", "14", "15", "28", "32", "38", "39"})
+    @DisplayName("상세 UPDATE: SET 순서대로 바인딩하고 마지막은 WHERE content_id")
+    void detailUpdateBindsInAssignmentOrder(String contentTypeId) throws SQLException {
+        ContentTypeSchema schema = ContentTypeSchema.of(contentTypeId);
+        TourismRawData item = itemNamedByColumns(schema);
+
+        List<String> bound = bind(ps -> schema.bindDetailUpdate(ps, item));
+
+        assertThat(bound).containsExactlyElementsOf(updateParameters(schema.getDetailUpdateSql()));
+        assertThat(bound).containsSubsequence(schema.getDomainFieldNames());
+    }
+
+    @ParameterizedTest(name = "contentTypeId {0}")
+    @ValueSource(strings = {"12", "14", "15", "28", "32", "38", "39"})
+    @DisplayName("라벨 UPDATE: SET 순서대로 바인딩하고 마지막은 WHERE content_id")
+    void labelUpdateBindsInAssignmentOrder(String contentTypeId) throws SQLException {
+        ContentTypeSchema schema = ContentTypeSchema.of(contentTypeId);
+        TourismRawData item = itemNamedByColumns(schema);
+
+        List<String> bound = bind(ps -> schema.bindLabelUpdate(ps, item));
+
+        assertThat(bound).containsExactlyElementsOf(updateParameters(schema.getLabelUpdateSql()));
+    }
+
+    @ParameterizedTest(name = "contentTypeId {0}")
+    @ValueSource(strings = {"12", "14", "15", "28", "32", "38", "39"})
+    @DisplayName("통합 upsert: 기본 + 상세/도메인 + 라벨 컬럼 순서대로 바인딩")
+    void completeUpsertBindsInColumnOrder(String contentTypeId) throws SQLException {
+        ContentTypeSchema schema = ContentTypeSchema.of(contentTypeId);
+        TourismRawData item = itemNamedByColumns(schema);
+
+        List<String> bound = bind(ps -> schema.bindComplete(ps, item));
+
+        List<String> columns = insertColumns(schema.getCompleteUpsertSql());
+        assertThat(bound).containsExactlyElementsOf(columns);
+        assertThat(columns).containsSubsequence(schema.getDomainFieldNames())
+                .endsWith("label_depth1", "label_depth2", "label_depth3");
+    }
+
+    @ParameterizedTest(name = "contentTypeId {0}")
+    @ValueSource(strings = {"12", "14", "15", "28", "32", "38", "39"})
+    @DisplayName("도메인 값이 없거나 모자라면 빈 문자열로 바인딩")
+    void missingDomainValuesBindAsEmpty(String contentTypeId) throws SQLException {
+        ContentTypeSchema schema = ContentTypeSchema.of(contentTypeId);
+        TourismRawData item = itemNamedByColumns(schema);
+        item.setDomainValues(null);
+
+        List<String> bound = bind(ps -> schema.bindDetailUpdate(ps, item));
+
+        List<String> parameters = updateParameters(schema.getDetailUpdateSql());
+        assertThat(bound).hasSameSizeAs(parameters);
+        for (String field : schema.getDomainFieldNames()) {
+            assertThat(bound.get(parameters.indexOf(field))).as(field).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("detailIntro2 item 노드에서 바로 매핑: 응답 키 fallback 순서, null/누락은 다음 키 또는 빈 문자열")
+    void mapsFieldsStraightFromDetailIntroNode() throws JsonProcessingException {
+        JsonNode detailItem = new ObjectMapper().readTree("""
+                {"opentimefood": "11:00~21:00", "restdate": null, "restdatefood": "월요일",
+                 "parkingfood": 12, "seat": "40", "firstmenu": "", "treatmenu": null}
+                """);
+        TourismRawData item = TourismRawData.builder().contentTypeId("39").build();
+
+        ContentTypeSchema.mapCommonFields(item, detailItem);
+        ContentTypeSchema.of("39").mapDomainFields(item, detailItem);
+
+        assertThat(item.getUsetime()).isEqualTo("11:00~21:00");
+        assertThat(item.getRestdate()).isEqualTo("월요일");
+        assertThat(item.getParking()).isEqualTo("12");
+        assertThat(item.getInfocenter()).isEmpty();
+
+        List<String> fields = ContentTypeSchema.of("39").getDomainFieldNames();
+        String[] values = item.getDomainValues();
+        assertThat(values).hasSize(fields.size());
+        assertThat(values[fields.indexOf("seat")]).isEqualTo("40");
+        assertThat(values[fields.indexOf("firstmenu")]).isEmpty();
+        assertThat(values[fields.indexOf("treatmenu")]).isEmpty();
+        assertThat(values[fields.indexOf("lcnsno")]).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 없으면(MissingNode) 모든 필드를 빈 문자열로 매핑")
+    void missingNodeMapsToEmptyStrings() {
+        TourismRawData item = TourismRawData.builder().contentTypeId("12").build();
+
+        ContentTypeSchema.mapCommonFields(item, MissingNode.getInstance());
+        ContentTypeSchema.of("12").mapDomainFields(item, MissingNode.getInstance());
+
+        assertThat(item.getUsetime()).isEmpty();
+        assertThat(item.getChkcreditcard()).isEmpty();
+        assertThat(item.getDomainValues()).hasSize(ContentTypeSchema.of("12").getDomainFieldNames().size())
+                .containsOnly("");
+    }
+
+    /** 각 필드 값이 저장될 컬럼명과 같은 아이템 */
+    private static TourismRawData itemNamedByColumns(ContentTypeSchema schema) {
+        return TourismRawData.builder()
+                .contentId("content_id")
+                .contentTypeId("content_type_id")
+                .contentTypeName("content_type_name")
+                .title("title")
+                .addr1("addr1")
+                .addr2("addr2")
+                .firstImage("first_image")
+                .firstImage2("first_image2")
+                .mapX("map_x")
+                .mapY("map_y")
+                .areaCode("area_code")
+                .sigunguCode("sigungu_code")
+                .cat1("cat1")
+                .cat2("cat2")
+                .cat3("cat3")
+                .createdTime("created_time")
+                .modifiedTime("modified_time")
+                .tel("tel")
+                .zipcode("zipcode")
+                .overview("overview")
+                .source("source")
+                .labelDepth1("label_depth1")
+                .labelDepth2("label_depth2")
+                .labelDepth3("label_depth3")
+                .usetime("usetime")
+                .restdate("restdate")
+                .parking("parking")
+                .parkingfee("parkingfee")
+                .infocenter("infocenter")
+                .chkbabycarriage("chkbabycarriage")
+                .chkpet("chkpet")
+                .chkcreditcard("chkcreditcard")
+                .domainValues(schema.getDomainFieldNames().toArray(String[]::new))
+                .build();
+    }
+
+    // "INSERT INTO t (a, b, c) VALUES (?, ?, ?) ..." 의 컬럼 목록, placeholder 수와 같아야 함
+    private static List<String> insertColumns(String sql) {
+        String columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')'));
+        List<String> names = List.of(columns.split(", "));
+        assertThat(placeholders(sql)).isEqualTo(names.size());
+        return names;
+    }
+
+    // "UPDATE t SET a = ?, b = ?, ... WHERE content_id = ?" 의 파라미터 순서 컬럼
+    private static List<String> updateParameters(String sql) {
+        List<String> names = new ArrayList<>();
+        Matcher matcher = ASSIGNMENT.matcher(sql);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        assertThat(names).last().isEqualTo("content_id");
+        assertThat(placeholders(sql)).isEqualTo(names.size());
+        return names;
+    }
+
+    private static int placeholders(String sql) {
+        return (int) sql.chars().filter(c -> c == '?').count();
+    }
+
+    @FunctionalInterface
+    private interface Binding {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    /** 바인딩된 값을 파라미터 순서대로 반환 (1..n 이 빠짐/중복 없이 채워져야 함) */
+    private static List<String> bind(Binding binding) throws SQLException {
+        Map<Integer, String> values = new HashMap<>();
+        PreparedStatement ps = mock(PreparedStatement.class, (Answer<Object>) inv -> {
+            String method = inv.getMethod().getName();
+            if (!method.equals("setString")) {
+                throw new UnsupportedOperationException(method);
+            }
+            int index = inv.getArgument(0);
+            assertThat(values).as("parameter %d bound twice", index).doesNotContainKey(index);
+            values.put(index, inv.getArgument(1));
+            return null;
+        });
+
+        binding.bind(ps);
+
+        assertThat(values.keySet()).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, values.size()).boxed().toList());
+        return IntStream.rangeClosed(1, values.size()).mapToObj(values::get).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package yunrry.flik.batch.migration.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 주소 표기로 SigunguCodeResolver 검증
+ * - 여러 시도에 같은 이름이 있는 시군구(중구, 고성군, 동구/서구), 경기도 광주시 vs 광주광역시, 남동구 vs 동구
+ * - 시도명이 없는 주소는 area_code 로 지역 판단, 해석하지 못하면 기본값 "110"
+ */
+class SigunguCodeResolverTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', textBlock = """
+            부산광역시 중구 중앙대로 2                | BUSAN_JUNG
+            부산 중구 광복로 72                      | BUSAN_JUNG
+            서울특별시 중구 세종대로 110              | SEOUL_JUNG
+            서울 중구 을지로 281                     | SEOUL_JUNG
+            강원특별자치도 고성군 토성면 잼버리로 244   | GANGWON_GOSEONG
+            강원도 고성군 거진읍 거진리                | GANGWON_GOSEONG
+            경상남도 고성군 고성읍 송학고분로           | GYEONGNAM_GOSEONG_GYEONGNAM
+            경남 고성군 하이면 자란만로                | GYEONGNAM_GOSEONG_GYEONGNAM
+            경기도 광주시 퇴촌면 태극길                | GYEONGGI_GWANGJU
+            광주광역시 동구 금남로 245                | GWANGJU_DONG
+            광주 서구 상무중앙로 7                    | GWANGJU_SEO
+            인천광역시 남동구 구월동 1138             | INCHEON_NAMDONG
+            인천광역시 동구 송림로 128                | INCHEON_DONG
+            대구광역시 달서구 두류공원로 36            | DAEGU_DALSEO
+            대구광역시 서구 국채보상로 257             | DAEGU_SEO
+            세종특별자치시 한누리대로 2130             | SEJONG_CITY
+            세종시 조치원읍 새내로 117                | SEJONG_CITY
+            제주특별자치도 서귀포시 중문관광로 72      | JEJU_SEOGWIPO
+            제주시 애월읍 애월해안로 272              | JEJU_JEJU
+            서울 종로구 사직로 161                   | SEOUL_JONGNO
+            """)
+    @DisplayName("주소 맨 앞 시도명으로 지역을 정한 뒤 그 지역 시군구로 해석")
+    void resolvesWithinProvincePrefix(String address, String expected) {
+        assertResolved(address, null, expected);
+    }
+
+    @ParameterizedTest(name = "{0} (area_code {1}) -> {2}")
+    @CsvSource(delimiter = '|', textBlock = """
+            중구 태종로 1                | 6  | BUSAN_JUNG
+            고성군 거진읍 거진리          | 32 | GANGWON_GOSEONG
+            고성군 고성읍 송학고분로       | 36 | GYEONGNAM_GOSEONG_GYEONGNAM
+            동구 금남로 245              | 5  | GWANGJU_DONG
+            서구 국채보상로 257           | 4  | DAEGU_SEO
+            한누리대로 2130              | 8  | SEJONG_CITY
+            서울특별시 중구 명동길 74      | 6  | SEOUL_JUNG
+            """)
+    @DisplayName("시도명이 없으면 area_code 지역에서 해석, 시도명이 있으면 시도명 우선")
+    void resolvesWithAreaCodeWhenProvinceMissing(String address, String areaCode, String expected) {
+        assertResolved(address, areaCode, expected);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', textBlock = """
+            중구 을지로 281     | SEOUL_JUNG
+            고성군 거진읍       | GANGWON_GOSEONG
+            달서구 두류공원로    | DAEGU_DALSEO
+            """)
+    @DisplayName("시도명도 area_code 도 없으면 enum 순서상 앞선 시군구 (기존 동작)")
+    void fallsBackToEnumOrder(String address, String expected) {
+        assertResolved(address, null, expected);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "알 수 없는 주소", "Seoul Jung-gu"})
+    @DisplayName("해석하지 못하면 기본값 110")
+    void unresolvedAddressDefaultsTo110(String address) {
+        assertThat(SigunguCodeResolver.find(address, "99")).isNull();
+        assertThat(SigunguCodeResolver.resolve(address, "99")).isEqualTo(SigunguCodeResolver.DEFAULT_CODE).isEqualTo("110");
+    }
+
+    private void assertResolved(String address, String areaCode, String expected) {
+        SigunguCode sigungu = SigunguCode.valueOf(expected);
+        // 코드는 지역마다 겹치므로(강원/경남 고성군 모두 820) 시군구 자체로 비교
+        assertThat(SigunguCodeResolver.find(address, areaCode)).isEqualTo(sigungu);
+        assertThat(SigunguCodeResolver.resolve(address, areaCode)).isEqualTo(sigungu.getCode());
+    }
+}
@@ -0,0 +1,217 @@
+package yunrry.flik.batch.migration.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+import yunrry.flik.batch.migration.mapping.ColumnBinder;
+import yunrry.flik.batch.migration.mapping.SpotColumn;
+import yunrry.flik.batch.migration.mapping.SpotMigrationMapping;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관광타입별 SpotMigrationMapping 을 기존 마이그레이션(INSERT IGNORE INTO spots ...)과 비교
+ * - 스텁 ResultSetMetaData 로 compile() 한 바인더가 기존 INSERT 컬럼 순서대로 파라미터를 한 번씩 채우는지
+ * - 매핑하지 않은 컬럼이 기존 서비스가 넣던 기본값(null / 빈 문자열)과 같은지
+ */
+class SpotMigrationMappingTest {
+
+    // 기존 서비스의 INSERT 컬럼 순서
+    private static final List<String> LEGACY_INSERT_COLUMNS = List.of(
+            "spot_type", "address", "baby_carriage", "category", "close_time", "content_type_id", "content_id",
+            "day_off", "description", "google_place_id", "image_urls", "info", "latitude",
+            "longitude", "name", "open_time", "parking", "pet_carriage", "rating", "regn_cd",
+            "review_count", "signgu_cd", "tag1", "tag2", "tag3", "tags", "label_depth1", "label_depth2", "label_depth3", "check_in_time",
+            "check_out_time", "cooking", "facilities", "cuisine_type", "fee", "age_limit",
+            "event_end_date", "event_start_date", "running_time", "sponsor", "first_menu",
+            "kids_facility", "price_range", "reservation", "take_away", "treat_menu",
+            "products", "exp_guide", "time");
+
+    // 원본 테이블에서 숫자 타입인 컬럼 (나머지는 VARCHAR)
+    private static final Map<String, Integer> NUMERIC_SOURCE_TYPES = Map.of(
+            "google_rating", Types.DECIMAL,
+            "google_review_count", Types.INTEGER);
+
+    private static final Object NULL = new Object() {
+        @Override
+        public String toString() {
+            return "NULL";
+        }
+    };
+
+    @Test
+    @DisplayName("spots 컬럼 순서와 INSERT 문은 기존 INSERT 와 같음")
+    void insertColumnsFollowLegacyOrder() {
+        List<String> columns = Arrays.stream(SpotColumn.values()).map(SpotColumn::getColumnName).toList();
+        assertThat(columns).containsExactlyElementsOf(LEGACY_INSERT_COLUMNS);
+
+        SpotMigrationMapping mapping = mapping(TouristAttractionsMigrationService.class);
+        assertThat(mapping.getInsertIgnoreSql())
+                .startsWith("INSERT IGNORE INTO spots (" + String.join(", ", LEGACY_INSERT_COLUMNS) + ")");
+        assertThat(placeholders(mapping.getInsertIgnoreSql())).isEqualTo(LEGACY_INSERT_COLUMNS.size());
+        assertThat(placeholders(mapping.getUpsertSql())).isEqualTo(LEGACY_INSERT_COLUMNS.size());
+    }
+
+    static Stream<Arguments> legacyMappings() {
+        // 기존 서비스가 spots 에 넣던 고정값: spot_type, null 컬럼, 빈 문자열 컬럼
+        return Stream.of(
+                Arguments.of(AccommodationMigrationService.class, "ACCOMMODATION",
+                        "close_time open_time tag1 tag2 tag3 tags",
+                        "cuisine_type fee age_limit event_end_date event_start_date running_time sponsor first_menu"
+                                + " kids_facility take_away treat_menu"),
+                Arguments.of(CulturalFacilitiesMigrationService.class, "CULTURAL",
+                        "content_type_id close_time open_time tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time facilities cuisine_type age_limit event_end_date event_start_date"
+                                + " sponsor first_menu kids_facility reservation take_away treat_menu products"),
+                Arguments.of(FestivalEventsMigrationService.class, "FESTIVAL",
+                        "content_type_id close_time google_place_id open_time rating review_count tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time facilities cuisine_type first_menu kids_facility take_away treat_menu"),
+                Arguments.of(RestaurantMigrationService.class, "RESTAURANT",
+                        "content_type_id close_time open_time tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time facilities fee age_limit event_end_date event_start_date"
+                                + " running_time sponsor price_range products"),
+                Arguments.of(ShoppingMigrationService.class, "SHOP",
+                        "content_type_id close_time open_time tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time cuisine_type fee age_limit event_end_date event_start_date"
+                                + " running_time sponsor first_menu kids_facility reservation take_away treat_menu"),
+                Arguments.of(SportsRecreationMigrationService.class, "LEISURE",
+                        "content_type_id close_time open_time tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time facilities cuisine_type fee age_limit event_end_date event_start_date"
+                                + " running_time sponsor first_menu kids_facility price_range take_away treat_menu products"),
+                Arguments.of(TouristAttractionsMigrationService.class, "TOUR_SPOT",
+                        "close_time open_time tag1 tag2 tag3 tags cooking",
+                        "check_in_time check_out_time facilities cuisine_type fee age_limit event_end_date event_start_date"
+                                + " running_time sponsor first_menu kids_facility price_range reservation take_away"
+                                + " treat_menu products"));
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("legacyMappings")
+    @DisplayName("모든 파라미터를 한 번씩 채우고, 매핑하지 않은 컬럼은 기존 기본값, 나머지는 원본 값으로 채움")
+    void bindsLikeLegacyInsert(Class<?> service, String spotType, String legacyNulls, String legacyEmpties)
+            throws SQLException {
+        SpotMigrationMapping mapping = mapping(service);
+        Map<Integer, Object> bound = bind(mapping, sourceColumns(mapping.getSelectSql()));
+
+        assertThat(bound.keySet()).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, LEGACY_INSERT_COLUMNS.size()).boxed().toList());
+        assertThat(bound.get(parameterIndex("spot_type"))).isEqualTo(spotType);
+
+        List<String> nulls = List.of(legacyNulls.split(" "));
+        List<String> empties = List.of(legacyEmpties.split(" "));
+        for (String column : LEGACY_INSERT_COLUMNS) {
+            Object value = bound.get(parameterIndex(column));
+            if (nulls.contains(column)) {
+                assertThat(value).as(column).isSameAs(NULL);
+            } else if (empties.contains(column)) {
+                assertThat(value).as(column).isEqualTo("");
+            } else {
+                assertThat(value).as(column).isNotSameAs(NULL).isNotEqualTo("");
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("legacyMappings")
+    @DisplayName("증분 조회(updated_at 추가)도 전체 조회와 같은 값으로 바인딩")
+    void incrementalSelectBindsSameValues(Class<?> service, String spotType, String legacyNulls, String legacyEmpties)
+            throws SQLException {
+        SpotMigrationMapping mapping = mapping(service);
+        List<String> incrementalColumns = sourceColumns(mapping.getIncrementalSelectSql());
+
+        assertThat(incrementalColumns.get(mapping.getUpdatedAtIndex() - 1)).isEqualTo("updated_at");
+        assertThat(bind(mapping, incrementalColumns)).isEqualTo(bind(mapping, sourceColumns(mapping.getSelectSql())));
+    }
+
+    private static SpotMigrationMapping mapping(Class<?> service) {
+        return (SpotMigrationMapping) ReflectionTestUtils.getField(service, "MAPPING");
+    }
+
+    private static int parameterIndex(String column) {
+        return LEGACY_INSERT_COLUMNS.indexOf(column) + 1;
+    }
+
+    private static int placeholders(String sql) {
+        return (int) sql.chars().filter(c -> c == '?').count();
+    }
+
+    // "SELECT a, b, c\nFROM ..." 의 조회 컬럼
+    private static List<String> sourceColumns(String selectSql) {
+        String columns = selectSql.substring("SELECT ".length(), selectSql.indexOf("\nFROM"));
+        return List.of(columns.split(", "));
+    }
+
+    /** 원본 한 행(모든 컬럼에 값 있음)을 compile() 한 바인더로 바인딩하고 파라미터 위치별 값 반환 */
+    private static Map<Integer, Object> bind(SpotMigrationMapping mapping, List<String> sourceColumns)
+            throws SQLException {
+        ResultSetMetaData meta = mock(ResultSetMetaData.class);
+        when(meta.getColumnCount()).thenReturn(sourceColumns.size());
+        when(meta.getColumnName(anyInt())).thenAnswer(inv -> sourceColumns.get(inv.<Integer>getArgument(0) - 1));
+        when(meta.getColumnLabel(anyInt())).thenAnswer(inv -> sourceColumns.get(inv.<Integer>getArgument(0) - 1));
+        when(meta.getColumnType(anyInt())).thenAnswer(inv ->
+                NUMERIC_SOURCE_TYPES.getOrDefault(sourceColumns.get(inv.<Integer>getArgument(0) - 1), Types.VARCHAR));
+
+        ResultSet rs = mock(ResultSet.class, (Answer<Object>) inv -> {
+            String method = inv.getMethod().getName();
+            if (method.equals("wasNull")) {
+                return false;
+            }
+            String column = sourceColumns.get(inv.<Integer>getArgument(0) - 1);
+            return switch (method) {
+                case "getString" -> sourceText(column);
+                case "getBigDecimal" -> new BigDecimal("4.5");
+                case "getInt" -> 12;
+                case "getDouble" -> Double.parseDouble(sourceText(column));
+                default -> throw new UnsupportedOperationException(method);
+            };
+        });
+
+        Map<Integer, Object> bound = new HashMap<>();
+        PreparedStatement ps = mock(PreparedStatement.class, (Answer<Object>) inv -> {
+            String method = inv.getMethod().getName();
+            if (!method.startsWith("set") || inv.getArguments().length < 2) {
+                throw new UnsupportedOperationException(method);
+            }
+            Object value = method.equals("setNull") ? NULL : inv.getArgument(1);
+            Object previous = bound.put(inv.getArgument(0), value);
+            assertThat(previous).as("parameter %s bound twice", (Object) inv.getArgument(0)).isNull();
+            return null;
+        });
+
+        for (ColumnBinder binder : mapping.compile(meta)) {
+            binder.bind(rs, ps);
+        }
+        return bound;
+    }
+
+    private static String sourceText(String column) {
+        return switch (column) {
+            case "map_x" -> "126.9780";
+            case "map_y" -> "37.5665";
+            case "area_code" -> "1";
+            case "addr1" -> "서울특별시 중구 세종대로 110";
+            case "updated_at" -> "2025-01-01 00:00:00";
+            default -> "v:" + column;
+        };
+    }
+}
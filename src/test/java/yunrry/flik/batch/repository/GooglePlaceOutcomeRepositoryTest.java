@@ -0,0 +1,160 @@
+package yunrry.flik.batch.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import yunrry.flik.batch.domain.GooglePlaceOutcome;
+import yunrry.flik.batch.domain.TourismRawData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GooglePlaceOutcomeRepository.saveOutcomes 의 ON DUPLICATE KEY UPDATE 를 실제 MySQL 에서 검증
+ * - retry_after 가 attempt_count/outcome 갱신 전 값으로 계산되는지 (TTL 2배, 상한), 결과가 바뀌면 초기화되는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class GooglePlaceOutcomeRepositoryTest {
+
+    private static final String SOURCE_TABLE = "fetched_tourist_attractions";
+    private static final String CONTENT_ID = "126508";
+    private static final int NOT_FOUND_TTL_DAYS = 30;
+    private static final int NO_RATING_TTL_DAYS = 14;
+    private static final int MAX_TTL_DAYS = 180;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private GooglePlaceOutcomeRepository repository;
+
+    @BeforeAll
+    static void createTable() throws IOException {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(outcomeTableDdl());
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM google_place_lookup_outcome");
+        repository = new GooglePlaceOutcomeRepository(jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "notFoundTtlDays", NOT_FOUND_TTL_DAYS);
+        ReflectionTestUtils.setField(repository, "noRatingTtlDays", NO_RATING_TTL_DAYS);
+        ReflectionTestUtils.setField(repository, "maxTtlDays", MAX_TTL_DAYS);
+    }
+
+    @Test
+    @DisplayName("같은 결과가 반복되면 TTL 을 2배씩 늘리고 상한에서 멈춤")
+    void repeatedOutcomeDoublesTtlUpToCap() {
+        int[] expectedTtlDays = {30, 60, 120, 180, 180};
+
+        for (int i = 0; i < expectedTtlDays.length; i++) {
+            save(GooglePlaceOutcome.NOT_FOUND);
+
+            Map<String, Object> row = row();
+            assertThat(row.get("outcome")).isEqualTo("NOT_FOUND");
+            assertThat(((Number) row.get("attempt_count")).intValue()).isEqualTo(i + 1);
+            assertThat(((Number) row.get("ttl_days")).intValue()).isEqualTo(expectedTtlDays[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("결과가 바뀌면 새 결과의 기본 TTL 과 횟수 1로 초기화")
+    void switchedOutcomeResetsTtlAndAttempts() {
+        save(GooglePlaceOutcome.NOT_FOUND);
+        save(GooglePlaceOutcome.NOT_FOUND);
+
+        save(GooglePlaceOutcome.NO_RATING);
+
+        Map<String, Object> row = row();
+        assertThat(row.get("outcome")).isEqualTo("NO_RATING");
+        assertThat(((Number) row.get("attempt_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) row.get("ttl_days")).intValue()).isEqualTo(NO_RATING_TTL_DAYS);
+    }
+
+    @Test
+    @DisplayName("별점을 찾으면 기록 삭제")
+    void foundDeletesRecord() {
+        save(GooglePlaceOutcome.NO_RATING);
+
+        save(GooglePlaceOutcome.FOUND);
+
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과를 판단하지 못한 아이템(null)은 기록하지 않음")
+    void nullOutcomeIsIgnored() {
+        save(null);
+        assertThat(count()).isZero();
+
+        save(GooglePlaceOutcome.NOT_FOUND);
+        save(null);
+
+        // 기존 기록도 그대로 유지
+        assertThat(((Number) row().get("attempt_count")).intValue()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재조회 시각이 지나지 않은 기록이 있는 행만 보강 대상에서 제외")
+    void notCachedConditionSkipsOnlyUnexpiredRecords() {
+        String sql = "SELECT s.content_id FROM (SELECT '" + CONTENT_ID + "' AS content_id UNION ALL SELECT 'other') s"
+                + " WHERE " + GooglePlaceOutcomeRepository.notCachedCondition(SOURCE_TABLE, "s")
+                + " ORDER BY s.content_id";
+
+        assertThat(jdbcTemplate.queryForList(sql, String.class)).containsExactly(CONTENT_ID, "other");
+
+        save(GooglePlaceOutcome.NOT_FOUND);
+        assertThat(jdbcTemplate.queryForList(sql, String.class)).containsExactly("other");
+
+        // 다른 원본 테이블의 기록은 영향 없음
+        String otherTableSql = sql.replace("'" + SOURCE_TABLE + "'", "'fetched_restaurants'");
+        assertThat(jdbcTemplate.queryForList(otherTableSql, String.class)).containsExactly(CONTENT_ID, "other");
+
+        jdbcTemplate.update("UPDATE google_place_lookup_outcome SET retry_after = NOW() - INTERVAL 1 DAY");
+        assertThat(jdbcTemplate.queryForList(sql, String.class)).containsExactly(CONTENT_ID, "other");
+    }
+
+    private void save(GooglePlaceOutcome outcome) {
+        TourismRawData item = TourismRawData.builder().contentId(CONTENT_ID).build();
+        item.setGooglePlaceOutcome(outcome);
+        repository.saveOutcomes(SOURCE_TABLE, List.of(item));
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap(
+                "SELECT outcome, attempt_count, ROUND(TIMESTAMPDIFF(SECOND, NOW(), retry_after) / 86400) AS ttl_days"
+                        + " FROM google_place_lookup_outcome WHERE source_table = ? AND content_id = ?",
+                SOURCE_TABLE, CONTENT_ID);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM google_place_lookup_outcome", Integer.class);
+    }
+
+    // 운영 스키마와 같은 DDL 사용
+    private static String outcomeTableDdl() throws IOException {
+        String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        return Arrays.stream(schema.split(";"))
+                .filter(statement -> statement.contains("CREATE TABLE IF NOT EXISTS google_place_lookup_outcome"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,105 @@
+package yunrry.flik.batch.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * schema-upgrade.sql 이 기존 DB 를 schema.sql 과 같은 테이블/인덱스 구성으로 맞추는지 실제 MySQL 에서 검증
+ * - 기존 DB: schema.sql 에서 새 테이블을 빼고, 새 인덱스를 지운 테이블만 생성
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaUpgradeScriptTest {
+
+    // schema.sql 에 나중에 추가된 테이블/인덱스 (기존 DB 에는 없음)
+    private static final List<String> NEW_TABLES = List.of(
+            "spot_migration_watermark", "google_place_lookup_outcome");
+    private static final List<String> NEW_INDEXES = List.of("idx_updated_at", "idx_google_rating_id");
+
+    private static final Pattern TABLE_NAME = Pattern.compile("CREATE TABLE IF NOT EXISTS (\\w+)");
+    private static final Pattern INDEX_NAME = Pattern.compile("\\bINDEX (\\w+)");
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createLegacySchema() throws IOException {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (String ddl : createTableStatements()) {
+            if (NEW_TABLES.contains(tableName(ddl))) {
+                continue;
+            }
+            String legacyDdl = ddl;
+            for (String index : NEW_INDEXES) {
+                legacyDdl = legacyDdl.replaceAll(",\\s*INDEX " + index + " \\([^)]*\\)", "");
+            }
+            jdbcTemplate.execute(legacyDdl);
+        }
+    }
+
+    @Test
+    @DisplayName("업그레이드 후 schema.sql 의 모든 테이블/인덱스가 있고, 다시 실행해도 오류 없음")
+    void upgradeMatchesSchemaAndIsIdempotent() throws IOException {
+        ResourceDatabasePopulator upgrade = new ResourceDatabasePopulator(new ClassPathResource("schema-upgrade.sql"));
+
+        upgrade.execute(dataSource);
+        upgrade.execute(dataSource);
+
+        for (String ddl : createTableStatements()) {
+            String table = tableName(ddl);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                    Integer.class, table))
+                    .as(table)
+                    .isEqualTo(1);
+            assertThat(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT index_name FROM information_schema.statistics"
+                            + " WHERE table_schema = DATABASE() AND table_name = ?", String.class, table))
+                    .as(table)
+                    .containsAll(indexNames(ddl));
+        }
+    }
+
+    // 운영 스키마와 같은 DDL 사용
+    private static List<String> createTableStatements() throws IOException {
+        String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        return Arrays.stream(schema.split(";"))
+                .filter(statement -> statement.contains("CREATE TABLE IF NOT EXISTS"))
+                .map(statement -> statement.substring(statement.indexOf("CREATE TABLE")))
+                .toList();
+    }
+
+    private static String tableName(String ddl) {
+        Matcher matcher = TABLE_NAME.matcher(ddl);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static List<String> indexNames(String ddl) {
+        return INDEX_NAME.matcher(ddl).results()
+                .map(result -> result.group(1))
+                .toList();
+    }
+}
@@ -0,0 +1,187 @@
+package yunrry.flik.batch.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitService 의 LEASE_SCRIPT / RETURN_SCRIPT 를 실제 Redis 에서 검증
+ * - 용량 25, 임대 단위 10 기준으로 임대/소진/반환/용량 상한/만료 후 반환/인스턴스 간 공유
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitServiceTest {
+
+    private static final String SERVICE_KEY = "test-service-key";
+    private static final String ENDPOINT = "detailIntro2";
+    private static final int DAILY_LIMIT = 25;
+    private static final int LEASE_SIZE = 10;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("첫 호출은 버킷에서 lease-size 만큼 임대하고 누적 호출 수에 반영")
+    void firstAcquireLeasesOneBatch() {
+        RateLimitService service = newService();
+
+        assertThat(service.tryAcquire(SERVICE_KEY, ENDPOINT)).isTrue();
+
+        assertThat(bucketTokens()).isEqualTo(DAILY_LIMIT - LEASE_SIZE);
+        assertThat(service.getCurrentCount()).isEqualTo(LEASE_SIZE);
+        // 버킷 잔량 + 로컬 임대 잔량
+        assertThat(service.getRemainingCount(SERVICE_KEY, ENDPOINT)).isEqualTo(DAILY_LIMIT - 1);
+        assertThat(redisTemplate.getExpire(bucketKey())).isPositive();
+    }
+
+    @Test
+    @DisplayName("용량보다 적게 남으면 남은 만큼만 임대하고, 소진 후에는 거부")
+    void stopsAtDailyLimit() {
+        RateLimitService service = newService();
+
+        int acquired = 0;
+        while (service.tryAcquire(SERVICE_KEY, ENDPOINT)) {
+            acquired++;
+        }
+
+        assertThat(acquired).isEqualTo(DAILY_LIMIT);
+        assertThat(bucketTokens()).isZero();
+        assertThat(service.getCurrentCount()).isEqualTo(DAILY_LIMIT);
+        assertThat(service.canMakeRequest(SERVICE_KEY, ENDPOINT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반환 시 미사용 토큰을 버킷에 되돌리고 누적 호출 수에서 차감, TTL 유지")
+    void releaseReturnsUnusedTokens() {
+        RateLimitService service = newService();
+        for (int i = 0; i < 3; i++) {
+            service.tryAcquire(SERVICE_KEY, ENDPOINT);
+        }
+
+        service.releaseLeases();
+
+        assertThat(bucketTokens()).isEqualTo(DAILY_LIMIT - 3);
+        assertThat(service.getCurrentCount()).isEqualTo(3);
+        assertThat(service.getRemainingCount(SERVICE_KEY, ENDPOINT)).isEqualTo(DAILY_LIMIT - 3);
+        assertThat(redisTemplate.getExpire(bucketKey())).isPositive();
+    }
+
+    @Test
+    @DisplayName("반환량은 버킷 용량을 넘지 않음")
+    void releaseNeverExceedsCapacity() {
+        RateLimitService service = newService();
+        service.tryAcquire(SERVICE_KEY, ENDPOINT);          // 버킷 15, 로컬 9
+        redisTemplate.opsForValue().set(bucketKey(), "20", Duration.ofHours(1));
+
+        service.releaseLeases();
+
+        assertThat(bucketTokens()).isEqualTo(DAILY_LIMIT);
+        // 실제로 되돌린 5개만 누적 호출 수에서 차감
+        assertThat(service.getCurrentCount()).isEqualTo(LEASE_SIZE - 5);
+    }
+
+    @Test
+    @DisplayName("버킷이 만료된 뒤의 반환은 버킷을 새로 만들지 않음")
+    void releaseAfterBucketExpiredIsNoop() {
+        RateLimitService service = newService();
+        service.tryAcquire(SERVICE_KEY, ENDPOINT);
+        redisTemplate.delete(bucketKey());
+
+        service.releaseLeases();
+
+        assertThat(redisTemplate.keys("tourism-api:quota:*")).isEmpty();
+        assertThat(service.getCurrentCount()).isEqualTo(LEASE_SIZE);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 임대해도 합계는 일일 한도를 넘지 않음")
+    void instancesShareOneBucket() throws Exception {
+        List<RateLimitService> services = List.of(newService(), newService());
+        AtomicInteger acquired = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                RateLimitService service = services.get(i % services.size());
+                futures.add(executor.submit(() -> {
+                    while (service.tryAcquire(SERVICE_KEY, ENDPOINT)) {
+                        acquired.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(acquired.get()).isEqualTo(DAILY_LIMIT);
+        assertThat(bucketTokens()).isZero();
+        assertThat(services.get(0).getCurrentCount()).isEqualTo(DAILY_LIMIT);
+    }
+
+    private RateLimitService newService() {
+        RateLimitService service = new RateLimitService(redisTemplate);
+        ReflectionTestUtils.setField(service, "DAILY_LIMIT", DAILY_LIMIT);
+        ReflectionTestUtils.setField(service, "leaseSize", LEASE_SIZE);
+        ReflectionTestUtils.setField(service, "defaultServiceKey", SERVICE_KEY);
+        return service;
+    }
+
+    private String bucketKey() {
+        Set<String> keys = redisTemplate.keys("tourism-api:quota:*");
+        assertThat(keys).hasSize(1);
+        return keys.iterator().next();
+    }
+
+    private int bucketTokens() {
+        return Integer.parseInt(redisTemplate.opsForValue().get(bucketKey()));
+    }
+}